@@ -0,0 +1,32 @@
+package com.soulcraft.network.footprint;
+
+import com.soulcraft.network.exception.BaseException;
+import com.soulcraft.network.resp.R;
+import com.soulcraft.network.resp.error.CommonResponseEnum;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+
+/**
+ * <p>
+ * core 模块的测量：断言失败、构造异常及返回信息，消息由默认的 ResourceBundleMessageResolver 读取
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class CoreFootprint {
+	private CoreFootprint() {
+	}
+
+	public static void main(String[] args) {
+		Footprint.measure("core", () -> {
+			try {
+				CommonResponseEnum.VALIDATE_FAILED.assertNotNull(null, "id");
+			} catch (BaseException e) {
+				new ErrorResponse(e.getResponseEnum(), e.getMessage());
+			}
+			R.success("ok");
+			new ErrorResponse(HttpStatusEnum.NOT_FOUND);
+		});
+	}
+}
@@ -0,0 +1,84 @@
+package com.soulcraft.network.footprint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+/**
+ * <p>
+ * 模块启动耗时及占用的测量，由各模块的 footprint 任务在新的 JVM 中运行
+ * </p>
+ * <p>
+ * 输出第一次使用加载的类数量、耗时及堆占用（近似值，可能受 GC 影响），预热后的单次耗时，以及运行时 classpath 的大小。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class Footprint {
+	private static final int WARM_ITERATIONS = 10_000;
+
+	private Footprint() {
+	}
+
+	/**
+	 * 测量并输出结果
+	 *
+	 * @param module   模块名称
+	 * @param firstUse 模块的典型使用路径，会被重复调用
+	 */
+	public static void measure(String module, Runnable firstUse) {
+		ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+		int classesBefore = classLoading.getLoadedClassCount();
+		long heapBefore = memory.getHeapMemoryUsage().getUsed();
+
+		long start = System.nanoTime();
+		firstUse.run();
+		long firstUseNanos = System.nanoTime() - start;
+		int classes = classLoading.getLoadedClassCount() - classesBefore;
+		long heap = memory.getHeapMemoryUsage().getUsed() - heapBefore;
+
+		start = System.nanoTime();
+		for (int i = 0; i < WARM_ITERATIONS; i++) {
+			firstUse.run();
+		}
+		long warmNanos = (System.nanoTime() - start) / WARM_ITERATIONS;
+
+		int entries = 0;
+		long classpathBytes = 0L;
+		for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+			if (!entry.isEmpty()) {
+				entries++;
+				classpathBytes += size(Paths.get(entry));
+			}
+		}
+
+		System.out.println("module:            " + module);
+		System.out.println("jvm uptime:        " + uptime + " ms before first use");
+		System.out.printf("first use:         %.2f ms, %d classes loaded, ~%d KB heap%n",
+				firstUseNanos / 1e6, classes, Math.max(heap, 0L) / 1024);
+		System.out.printf("warm call:         %.2f us%n", warmNanos / 1e3);
+		System.out.println("runtime classpath: " + entries + " entries, " + classpathBytes / 1024 + " KB");
+		System.out.println("loaded classes:    " + classLoading.getLoadedClassCount() + " in total");
+	}
+
+	private static long size(Path path) {
+		if (!Files.exists(path)) {
+			return 0L;
+		}
+		try (Stream<Path> files = Files.walk(path)) {
+			return files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.soulcraft.network.deadline;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 请求截止时间，基于 {@link System#nanoTime()}，不受系统时钟调整影响
+ * </p>
+ * <p>
+ * 不可变对象，可以在线程间、异步任务间直接传递；不使用 ThreadLocal 的代码（如虚拟线程、Reactor）显式传递该对象即可。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class Deadline implements Comparable<Deadline> {
+	private final long deadlineNanos;
+
+	private Deadline(long deadlineNanos) {
+		this.deadlineNanos = deadlineNanos;
+	}
+
+	/**
+	 * 创建从现在起经过指定时长后到期的截止时间
+	 *
+	 * @param duration 时长
+	 * @param unit     时长单位
+	 * @return 截止时间
+	 */
+	public static Deadline after(long duration, TimeUnit unit) {
+		return new Deadline(System.nanoTime() + unit.toNanos(duration));
+	}
+
+	/**
+	 * @return 是否已到期
+	 */
+	public boolean isExpired() {
+		return deadlineNanos - System.nanoTime() <= 0;
+	}
+
+	/**
+	 * 获取剩余时间
+	 *
+	 * @param unit 时间单位
+	 * @return 剩余时间，已到期时为 0
+	 */
+	public long remaining(TimeUnit unit) {
+		long remaining = deadlineNanos - System.nanoTime();
+		return remaining <= 0 ? 0 : unit.convert(remaining, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 获取较早的截止时间
+	 *
+	 * @param other 另一个截止时间，可以为 null
+	 * @return 较早的截止时间
+	 */
+	public Deadline earlier(Deadline other) {
+		return other == null || compareTo(other) <= 0 ? this : other;
+	}
+
+	@Override
+	public int compareTo(Deadline other) {
+		return Long.signum(deadlineNanos - other.deadlineNanos);
+	}
+
+	@Override
+	public String toString() {
+		return "Deadline[remaining=" + remaining(TimeUnit.MILLISECONDS) + "ms]";
+	}
+}
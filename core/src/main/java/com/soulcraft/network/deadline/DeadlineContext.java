@@ -0,0 +1,60 @@
+package com.soulcraft.network.deadline;
+
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+
+/**
+ * <p>
+ * 当前线程的请求截止时间
+ * </p>
+ * <p>
+ * 由 {@link DeadlineInterceptor} 在请求开始时设置、结束时清除；切换线程执行的代码需要自行传递 {@link Deadline}。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class DeadlineContext {
+	private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+	private DeadlineContext() {
+	}
+
+	/**
+	 * @return 当前线程的截止时间，没有时返回 null
+	 */
+	public static Deadline current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * 设置当前线程的截止时间
+	 *
+	 * @param deadline 截止时间，为 null 时清除
+	 * @return 之前的截止时间，用于恢复
+	 */
+	public static Deadline set(Deadline deadline) {
+		Deadline previous = CURRENT.get();
+		if (deadline == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(deadline);
+		}
+		return previous;
+	}
+
+	/**
+	 * 清除当前线程的截止时间
+	 */
+	public static void clear() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * 检查当前线程的截止时间，已到期时抛出 {@link HttpStatusEnum#GATEWAY_TIMEOUT}
+	 *
+	 * @param args 异常消息参数列表
+	 */
+	public static void check(Object... args) {
+		HttpStatusEnum.GATEWAY_TIMEOUT.assertBefore(CURRENT.get(), args);
+	}
+}
@@ -0,0 +1,212 @@
+package com.soulcraft.network.exception;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * <p>
+ * 异常消息参数的保存策略，{@link BaseException} 只保存参数的快照，不再引用调用方传入的原始对象
+ * </p>
+ * <p>
+ * 基本类型的包装类、BigDecimal、BigInteger、枚举、UUID 及 java.time 中的日期时间等不可变的小对象保持原样，以便消息格式化时仍可按类型格式化；
+ * AtomicLong、LongAdder 等可变的 Number 及其他子类转换为字符串；
+ * java.util.Date 保存副本；其他对象转换为字符串，超出单个参数长度上限时截断。
+ * 集合、Map 及数组元素不多时逐个转换，否则转换为摘要，如 List(size=48213)、byte[](length=1024)。
+ * 所有参数转换后的总长度超出上限时，之后的参数被截断。
+ * </p>
+ * <pre>
+ *     ArgumentCapturePolicy.setDefault(new ArgumentCapturePolicy(128, 512, 4));
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class ArgumentCapturePolicy {
+	/**
+	 * 截断后追加的标记
+	 */
+	public static final String ELLIPSIS = "...";
+
+	private static volatile ArgumentCapturePolicy defaultPolicy = new ArgumentCapturePolicy(256, 1024, 8);
+
+	private final int maxArgLength;
+	private final int maxTotalLength;
+	private final int maxElements;
+
+	/**
+	 * @param maxArgLength   单个参数转换为字符串后的长度上限
+	 * @param maxTotalLength 所有参数转换为字符串后的总长度上限
+	 * @param maxElements    集合、Map 及数组逐个转换元素的数量上限，超出时转换为摘要
+	 */
+	public ArgumentCapturePolicy(int maxArgLength, int maxTotalLength, int maxElements) {
+		if (maxArgLength <= ELLIPSIS.length() || maxTotalLength < maxArgLength || maxElements < 0) {
+			throw new IllegalArgumentException("invalid capture policy: " + maxArgLength + ", " + maxTotalLength + ", " + maxElements);
+		}
+		this.maxArgLength = maxArgLength;
+		this.maxTotalLength = maxTotalLength;
+		this.maxElements = maxElements;
+	}
+
+	/**
+	 * @return 默认的保存策略，单个参数 256 个字符，总长度 1024 个字符，最多逐个转换 8 个元素
+	 */
+	public static ArgumentCapturePolicy getDefault() {
+		return defaultPolicy;
+	}
+
+	/**
+	 * 设置默认的保存策略
+	 *
+	 * @param policy 保存策略
+	 */
+	public static void setDefault(ArgumentCapturePolicy policy) {
+		if (policy == null) {
+			throw new IllegalArgumentException("policy must not be null");
+		}
+		defaultPolicy = policy;
+	}
+
+	/**
+	 * 生成参数快照
+	 *
+	 * @param args 原始参数，可以为 null
+	 * @return 参数快照，原始参数为 null 时返回 null
+	 */
+	public Object[] capture(Object[] args) {
+		if (args == null) {
+			return null;
+		}
+		Object[] captured = new Object[args.length];
+		int remaining = maxTotalLength;
+		for (int i = 0; i < args.length; i++) {
+			Object arg = args[i];
+			if (arg == null || isImmutableScalar(arg)) {
+				captured[i] = arg;
+			} else if (arg instanceof Date) {
+				captured[i] = new Date(((Date) arg).getTime());
+			} else {
+				String value = truncate(toCompactString(arg), Math.min(maxArgLength, Math.max(remaining, ELLIPSIS.length())));
+				remaining -= value.length();
+				captured[i] = value;
+			}
+		}
+		return captured;
+	}
+
+	/**
+	 * 可以原样保存的不可变小对象，Number 只包括 JDK 中的不可变类型，BigDecimal、BigInteger 的子类可能可变，不包括在内
+	 *
+	 * @param arg 参数
+	 * @return 是否原样保存
+	 */
+	protected boolean isImmutableScalar(Object arg) {
+		Class<?> type = arg.getClass();
+		return type == Integer.class || type == Long.class || type == Double.class || type == Float.class
+				|| type == Short.class || type == Byte.class || type == BigDecimal.class || type == BigInteger.class
+				|| arg instanceof Boolean || arg instanceof Character || arg instanceof Enum
+				|| arg instanceof UUID || type.getName().startsWith("java.time.");
+	}
+
+	/**
+	 * 将参数转换为字符串，集合、Map 及数组元素过多时只输出摘要
+	 *
+	 * @param arg 参数
+	 * @return 字符串
+	 */
+	protected String toCompactString(Object arg) {
+		if (arg instanceof CharSequence) {
+			CharSequence value = (CharSequence) arg;
+			return value.length() > maxArgLength ? value.subSequence(0, maxArgLength).toString() + ELLIPSIS : value.toString();
+		}
+		if (arg instanceof Collection) {
+			Collection<?> collection = (Collection<?>) arg;
+			if (collection.size() > maxElements) {
+				return summary(collection);
+			}
+			return join(collection.iterator(), '[', ']');
+		}
+		if (arg instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) arg;
+			if (map.size() > maxElements) {
+				return summary(map);
+			}
+			return join(map.entrySet().iterator(), '{', '}');
+		}
+		if (arg.getClass().isArray()) {
+			int length = Array.getLength(arg);
+			// 二进制数据逐个输出没有意义，总是输出摘要
+			if (length > maxElements || arg instanceof byte[]) {
+				return summary(arg);
+			}
+			StringBuilder builder = new StringBuilder("[");
+			for (int i = 0; i < length && builder.length() <= maxArgLength; i++) {
+				appendElement(builder.append(i == 0 ? "" : ", "), Array.get(arg, i));
+			}
+			return builder.append(']').toString();
+		}
+		return String.valueOf(arg);
+	}
+
+	private String join(Iterator<?> iterator, char prefix, char suffix) {
+		StringBuilder builder = new StringBuilder().append(prefix);
+		boolean first = true;
+		while (iterator.hasNext() && builder.length() <= maxArgLength) {
+			builder.append(first ? "" : ", ");
+			Object element = iterator.next();
+			if (element instanceof Map.Entry) {
+				appendElement(builder, ((Map.Entry<?, ?>) element).getKey());
+				appendElement(builder.append('='), ((Map.Entry<?, ?>) element).getValue());
+			} else {
+				appendElement(builder, element);
+			}
+			first = false;
+		}
+		return builder.append(suffix).toString();
+	}
+
+	/**
+	 * 元素中的集合、Map 及数组只输出摘要，不再展开
+	 */
+	private void appendElement(StringBuilder builder, Object element) {
+		String value;
+		if (element == null || isImmutableScalar(element)) {
+			value = String.valueOf(element);
+		} else if (element instanceof Collection || element instanceof Map || element.getClass().isArray()) {
+			value = summary(element);
+		} else {
+			value = toCompactString(element);
+		}
+		builder.append(truncate(value, maxArgLength));
+	}
+
+	private static String summary(Object container) {
+		if (container instanceof List) {
+			return "List(size=" + ((List<?>) container).size() + ")";
+		}
+		if (container instanceof Set) {
+			return "Set(size=" + ((Set<?>) container).size() + ")";
+		}
+		if (container instanceof Collection) {
+			return "Collection(size=" + ((Collection<?>) container).size() + ")";
+		}
+		if (container instanceof Map) {
+			return "Map(size=" + ((Map<?, ?>) container).size() + ")";
+		}
+		return container.getClass().getComponentType().getSimpleName() + "[](length=" + Array.getLength(container) + ")";
+	}
+
+	private static String truncate(String value, int maxLength) {
+		if (value.length() <= maxLength) {
+			return value;
+		}
+		return value.substring(0, maxLength - ELLIPSIS.length()) + ELLIPSIS;
+	}
+}
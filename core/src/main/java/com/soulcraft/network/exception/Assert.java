@@ -1,6 +1,9 @@
 package com.soulcraft.network.exception;
 
+import com.soulcraft.network.deadline.Deadline;
+
 import java.util.Collection;
+import java.util.function.Supplier;
 
 /**
  * <p>
@@ -47,6 +50,28 @@ public interface Assert {
 		throw newException(cause, args);
 	}
 
+	/**
+	 * 创建请求截止时间已到期异常
+	 *
+	 * @param args 参数列表
+	 * @return BaseException 基础异常
+	 */
+	default BaseException newDeadlineExceededException(Object... args) {
+		return newException(args);
+	}
+
+	/**
+	 * 断言截止时间尚未到期，否则抛出异常，用于在各处理阶段之间提前结束已超时的请求
+	 *
+	 * @param deadline 截止时间，为 null 时不检查
+	 * @param args     异常消息参数列表
+	 */
+	default void assertBefore(Deadline deadline, Object... args) {
+		if (deadline != null && deadline.isExpired()) {
+			throw newDeadlineExceededException(args);
+		}
+	}
+
 	/**
 	 * 断言条件为真，否则抛出异常
 	 *
@@ -110,4 +135,27 @@ public interface Assert {
 	default void assertNotEmpty(Collection<?> collection, Object... args) {
 		assertTrue(collection != null && !collection.isEmpty(), args);
 	}
+
+	/**
+	 * 查找对象，查找结果为空时抛出异常并记录到否定查找缓存，之后在有效期内查找同一个键时不再调用 loader，直接抛出异常
+	 *
+	 * @param cache  否定查找缓存，键按 (本断言, key) 区分
+	 * @param key    查找的键
+	 * @param loader 查找对象，如查询数据库
+	 * @param args   异常消息参数列表
+	 * @param <T>    对象类型
+	 * @return 查找到的对象
+	 */
+	default <T> T assertFound(NegativeLookupCache cache, Object key, Supplier<? extends T> loader, Object... args) {
+		if (cache.isMissing(this, key)) {
+			throw newException(args);
+		}
+		long stamp = cache.stamp();
+		T value = loader.get();
+		if (value == null) {
+			cache.markMissing(this, key, stamp);
+			throw newException(args);
+		}
+		return value;
+	}
 }
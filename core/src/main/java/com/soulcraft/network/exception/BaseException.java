@@ -0,0 +1,86 @@
+package com.soulcraft.network.exception;
+
+import com.soulcraft.network.resp.IResponseEnum;
+import lombok.Getter;
+
+/**
+ * <p>
+ * 基础异常
+ * </p>
+ * <p>
+ * 消息参数按 {@link ArgumentCapturePolicy#getDefault()} 保存为快照，不引用调用方传入的原始对象
+ * </p>
+ *
+ * @author Scott
+ * @since 2022-03-10
+ */
+@Getter
+public class BaseException extends RuntimeException {
+	private final IResponseEnum responseEnum;
+	private final Object[] args;
+
+	/**
+	 * 构造基础异常对象
+	 *
+	 * @param responseEnum 返回信息枚举
+	 */
+	public BaseException(IResponseEnum responseEnum) {
+		this(responseEnum, null, responseEnum.getMessage());
+	}
+
+	/**
+	 * 构造基础异常对象
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param args         参数
+	 * @param message      其他信息
+	 */
+	public BaseException(IResponseEnum responseEnum, Object[] args, String message) {
+		this(responseEnum, args, message, null);
+	}
+
+	/**
+	 * 构造基础异常对象
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param args         参数
+	 * @param message      其他信息
+	 */
+	public BaseException(IResponseEnum responseEnum, Object[] args, String message, Throwable cause) {
+		super(message, cause);
+		this.responseEnum = responseEnum;
+		this.args = ArgumentCapturePolicy.getDefault().capture(args);
+	}
+
+	/**
+	 * 构造基础异常对象
+	 *
+	 * @param responseEnum       返回信息枚举
+	 * @param args               参数
+	 * @param message            其他信息
+	 * @param cause              原因
+	 * @param writableStackTrace 是否记录调用栈，不记录时构造开销更小
+	 */
+	protected BaseException(IResponseEnum responseEnum, Object[] args, String message, Throwable cause,
+							boolean writableStackTrace) {
+		super(message, cause, true, writableStackTrace);
+		this.responseEnum = responseEnum;
+		this.args = ArgumentCapturePolicy.getDefault().capture(args);
+	}
+
+	/**
+	 * 使用已经保存的参数快照构造，不再重复保存，供断言等已生成快照的调用方使用
+	 *
+	 * @param responseEnum       返回信息枚举
+	 * @param message            其他信息
+	 * @param cause              原因
+	 * @param writableStackTrace 是否记录调用栈
+	 * @param capturedArgs       {@link ArgumentCapturePolicy#capture(Object[])} 生成的参数快照
+	 */
+	BaseException(IResponseEnum responseEnum, String message, Throwable cause, boolean writableStackTrace,
+				  Object[] capturedArgs) {
+		super(message, cause, true, writableStackTrace);
+		this.responseEnum = responseEnum;
+		this.args = capturedArgs;
+	}
+}
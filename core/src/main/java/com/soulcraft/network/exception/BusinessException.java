@@ -31,4 +31,16 @@ public class BusinessException extends BaseException {
 	public BusinessException(IResponseEnum responseEnum, Object[] args, String message, Throwable cause) {
 		super(responseEnum, args, message, cause);
 	}
+
+	/**
+	 * 使用已经保存的参数快照构造
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param message      其他信息
+	 * @param cause        原因
+	 * @param capturedArgs 参数快照
+	 */
+	BusinessException(IResponseEnum responseEnum, String message, Throwable cause, Object[] capturedArgs) {
+		super(responseEnum, message, cause, true, capturedArgs);
+	}
 }
@@ -0,0 +1,41 @@
+package com.soulcraft.network.exception;
+
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.util.MessageUtils;
+
+/**
+ * <p>
+ * 业务错误信息断言
+ * </p>
+ *
+ * @author Scott
+ * @since 2022-03-10
+ */
+public interface BusinessExceptionAssert extends IResponseEnum, Assert {
+
+	/**
+	 * 消息使用参数快照格式化，避免大集合等参数生成过长的消息，参见 {@link ArgumentCapturePolicy}；
+	 * 快照直接交给异常，不再重复保存
+	 */
+	@Override
+	default BaseException newException(Object... args) {
+		Object[] captured = ArgumentCapturePolicy.getDefault().capture(args);
+		String msg = MessageUtils.getResponseMessage(this, captured);
+		return new BusinessException(this, msg, null, captured);
+	}
+
+	@Override
+	default BaseException newException(Throwable cause, Object... args) {
+		Object[] captured = ArgumentCapturePolicy.getDefault().capture(args);
+		String msg = MessageUtils.getResponseMessage(this, captured);
+		return new BusinessException(this, msg, cause, captured);
+	}
+
+	@Override
+	default BaseException newDeadlineExceededException(Object... args) {
+		Object[] captured = ArgumentCapturePolicy.getDefault().capture(args);
+		String msg = MessageUtils.getResponseMessage(this, captured);
+		return new DeadlineExceededException(this, msg, captured);
+	}
+
+}
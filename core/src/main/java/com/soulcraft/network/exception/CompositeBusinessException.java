@@ -0,0 +1,165 @@
+package com.soulcraft.network.exception;
+
+import com.soulcraft.network.resp.error.CommonResponseEnum;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import com.soulcraft.network.util.MessageUtils;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * <p>
+ * 组合业务异常，收集并行子任务的多个失败
+ * </p>
+ * <p>
+ * 只有组合异常本身记录调用栈，由非 {@link BaseException} 转换而来的子异常不记录调用栈，原始异常作为其 cause 保留。
+ * 全局错误处理器将其输出为一个错误返回信息，子任务的错误码及消息放在 errors 中。
+ * </p>
+ * <pre>
+ *     List&lt;CompletableFuture&lt;Order&gt;&gt; futures = ids.stream()
+ *             .map(id -&gt; CompletableFuture.supplyAsync(() -&gt; orderService.load(id), executor))
+ *             .collect(Collectors.toList());
+ *     List&lt;Order&gt; orders = CompositeBusinessException.awaitAll(futures, true);
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class CompositeBusinessException extends BaseException {
+	/**
+	 * 解包异步调用包装异常的最大层数
+	 */
+	private static final int MAX_UNWRAP_DEPTH = 16;
+
+	private final List<BaseException> failures;
+
+	/**
+	 * 构造组合业务异常
+	 *
+	 * @param failures 子任务的失败，不能为空
+	 */
+	public CompositeBusinessException(List<? extends BaseException> failures) {
+		super(CommonResponseEnum.COMPOSITE_FAILURE, new Object[]{failures.size()},
+				MessageUtils.getResponseMessage(CommonResponseEnum.COMPOSITE_FAILURE, failures.size()), null, true);
+		this.failures = Collections.unmodifiableList(new ArrayList<>(failures));
+	}
+
+	/**
+	 * @return 子任务的失败，按子任务的顺序排列
+	 */
+	public List<BaseException> getFailures() {
+		return failures;
+	}
+
+	/**
+	 * <pre>
+	 *     根据多个异常构造组合业务异常
+	 *     不是 {@link BaseException} 的异常转换为不记录调用栈的 {@link HttpStatusEnum#INTERNAL_SERVER_ERROR}
+	 * </pre>
+	 *
+	 * @param failures 异常列表，不能为空
+	 * @return 组合业务异常
+	 */
+	public static CompositeBusinessException of(Collection<? extends Throwable> failures) {
+		List<BaseException> children = new ArrayList<>(failures.size());
+		for (Throwable failure : failures) {
+			children.add(toBaseException(failure));
+		}
+		return new CompositeBusinessException(children);
+	}
+
+	/**
+	 * <pre>
+	 *     等待所有子任务完成并按顺序返回结果
+	 *     有子任务失败时抛出异常：只有一个业务异常时直接抛出该异常，否则抛出组合业务异常；
+	 *     cancelOnFirstFailure 为 true 时，第一个子任务失败后立即取消其他未完成的子任务，被取消的子任务不计入失败
+	 * </pre>
+	 *
+	 * @param futures              子任务列表
+	 * @param cancelOnFirstFailure 第一个子任务失败后是否取消其他子任务
+	 * @param <T>                  结果类型
+	 * @return 子任务结果列表
+	 * @throws BaseException 子任务失败
+	 */
+	public static <T> List<T> awaitAll(List<? extends CompletableFuture<? extends T>> futures, boolean cancelOnFirstFailure) {
+		CompletableFuture<?>[] all = futures.toArray(new CompletableFuture<?>[0]);
+		if (cancelOnFirstFailure) {
+			for (CompletableFuture<?> future : all) {
+				future.whenComplete((result, error) -> {
+					if (error != null && !(error instanceof CancellationException)) {
+						for (CompletableFuture<?> sibling : all) {
+							sibling.cancel(false);
+						}
+					}
+				});
+			}
+		}
+		CompletableFuture.allOf(all).handle((result, error) -> null).join();
+
+		List<T> results = new ArrayList<>(all.length);
+		List<Throwable> failures = null;
+		for (CompletableFuture<? extends T> future : futures) {
+			if (!future.isCompletedExceptionally()) {
+				results.add(future.join());
+				continue;
+			}
+			results.add(null);
+			try {
+				future.join();
+			} catch (CancellationException e) {
+				// 被取消的子任务不计入失败
+			} catch (CompletionException e) {
+				if (failures == null) {
+					failures = new ArrayList<>();
+				}
+				failures.add(unwrap(e));
+			}
+		}
+		if (failures == null) {
+			return results;
+		}
+		if (failures.size() == 1 && failures.get(0) instanceof BaseException) {
+			throw (BaseException) failures.get(0);
+		}
+		throw of(failures);
+	}
+
+	private static BaseException toBaseException(Throwable failure) {
+		Throwable cause = unwrap(failure);
+		if (cause instanceof BaseException) {
+			return (BaseException) cause;
+		}
+		HttpStatusEnum status = HttpStatusEnum.INTERNAL_SERVER_ERROR;
+		return new ChildException(status, cause);
+	}
+
+	private static Throwable unwrap(Throwable e) {
+		Throwable current = e;
+		for (int depth = 0; depth < MAX_UNWRAP_DEPTH; depth++) {
+			boolean wrapper = current instanceof CompletionException || current instanceof ExecutionException
+					|| current instanceof UndeclaredThrowableException;
+			Throwable cause = current.getCause();
+			if (!wrapper || cause == null || cause == current) {
+				break;
+			}
+			current = cause;
+		}
+		return current;
+	}
+
+	/**
+	 * 不记录调用栈的子异常
+	 */
+	private static final class ChildException extends BaseException {
+		private ChildException(HttpStatusEnum status, Throwable cause) {
+			super(status, null, MessageUtils.getResponseMessage(status), cause, false);
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.soulcraft.network.exception;
+
+import com.soulcraft.network.resp.IResponseEnum;
+
+/**
+ * <p>
+ * 请求截止时间已到期异常
+ * </p>
+ * <p>
+ * 到期是预期内的情况，不记录调用栈，全局错误处理器也不输出错误日志。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class DeadlineExceededException extends BaseException {
+	/**
+	 * 构造请求截止时间已到期异常
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param args         参数
+	 * @param message      其他信息
+	 */
+	public DeadlineExceededException(IResponseEnum responseEnum, Object[] args, String message) {
+		super(responseEnum, args, message, null, false);
+	}
+
+	/**
+	 * 使用已经保存的参数快照构造
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param message      其他信息
+	 * @param capturedArgs 参数快照
+	 */
+	DeadlineExceededException(IResponseEnum responseEnum, String message, Object[] capturedArgs) {
+		super(responseEnum, message, null, false, capturedArgs);
+	}
+}
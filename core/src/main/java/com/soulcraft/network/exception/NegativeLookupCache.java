@@ -0,0 +1,267 @@
+package com.soulcraft.network.exception;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * 否定查找缓存，记录最近查找不到的 (断言, 键)，
+ * 配合 {@link Assert#assertFound(NegativeLookupCache, Object, java.util.function.Supplier, Object...)}
+ * 在重复查找不存在的记录时直接抛出同样的异常，不再访问数据库。
+ * </p>
+ * <p>
+ * 条目在 TTL 到期后失效，条目数达到上限时先清理过期条目，仍然已满时淘汰任意条目；
+ * 新增记录后需要调用 {@link #invalidate(Assert, Object)}，否则在 TTL 内仍会抛出异常。
+ * 可选的 Bloom 过滤器位于缓存之前，记录存在时大多不需要查找缓存；过滤器只增不减，写入次数达到上限的两倍时清空，
+ * 清空后已缓存的键会被当作未缓存，最多多访问一次数据库。
+ * </p>
+ * <pre>
+ *     User user = DbResponseEnum.RECORD_NOT_FOUND.assertFound(cache, id, () -&gt; userMapper.selectById(id), id);
+ *     ...
+ *     userMapper.insert(user);
+ *     cache.invalidate(DbResponseEnum.RECORD_NOT_FOUND, user.getId());
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class NegativeLookupCache {
+	private static final int BLOOM_BITS_PER_ENTRY = 10;
+	private static final int BLOOM_HASHES = 4;
+
+	private final int maxSize;
+	private final long ttlNanos;
+	private final Map<Key, Long> entries = new ConcurrentHashMap<>();
+	private final AtomicLong invalidations = new AtomicLong();
+	private final LongAdder hits = new LongAdder();
+	private final AtomicLongArray bloom;
+	private final int bloomMask;
+	private final AtomicLong bloomInsertions = new AtomicLong();
+
+	/**
+	 * 不使用 Bloom 过滤器
+	 *
+	 * @param maxSize 最大条目数
+	 * @param ttl     条目有效期
+	 * @param unit    有效期单位
+	 */
+	public NegativeLookupCache(int maxSize, long ttl, TimeUnit unit) {
+		this(maxSize, ttl, unit, false);
+	}
+
+	/**
+	 * @param maxSize     最大条目数
+	 * @param ttl         条目有效期
+	 * @param unit        有效期单位
+	 * @param bloomFilter 是否在缓存之前使用 Bloom 过滤器，每个条目约占 10 位
+	 */
+	public NegativeLookupCache(int maxSize, long ttl, TimeUnit unit, boolean bloomFilter) {
+		if (maxSize <= 0 || ttl <= 0) {
+			throw new IllegalArgumentException("invalid maxSize: " + maxSize + ", ttl: " + ttl);
+		}
+		this.maxSize = maxSize;
+		this.ttlNanos = unit.toNanos(ttl);
+		if (bloomFilter) {
+			// 字数取不小于所需位数的 2 的幂，最多 2^24 个 long
+			int required = (int) Math.min(Math.max((long) maxSize * BLOOM_BITS_PER_ENTRY / 64, 1L), 1L << 24);
+			int words = Integer.highestOneBit(required * 2 - 1);
+			this.bloom = new AtomicLongArray(words);
+			this.bloomMask = words * 64 - 1;
+		} else {
+			this.bloom = null;
+			this.bloomMask = 0;
+		}
+	}
+
+	/**
+	 * 键是否在有效期内被记录为查找不到
+	 *
+	 * @param namespace 断言，通常为 {@link com.soulcraft.network.resp.error.DbResponseEnum#RECORD_NOT_FOUND}
+	 * @param key       键
+	 * @return 是否查找不到
+	 */
+	public boolean isMissing(Assert namespace, Object key) {
+		Key k = new Key(namespace, key);
+		if (bloom != null && !mightContain(k.hash)) {
+			return false;
+		}
+		Long expiresAt = entries.get(k);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (System.nanoTime() - expiresAt >= 0) {
+			entries.remove(k, expiresAt);
+			return false;
+		}
+		hits.increment();
+		return true;
+	}
+
+	/**
+	 * 记录键查找不到
+	 *
+	 * @param namespace 断言
+	 * @param key       键
+	 */
+	public void markMissing(Assert namespace, Object key) {
+		markMissing(namespace, key, invalidations.get());
+	}
+
+	/**
+	 * 使键的否定记录失效，在新增记录后调用
+	 *
+	 * @param namespace 断言
+	 * @param key       键
+	 */
+	public void invalidate(Assert namespace, Object key) {
+		invalidations.incrementAndGet();
+		entries.remove(new Key(namespace, key));
+	}
+
+	/**
+	 * 清空所有否定记录
+	 */
+	public void invalidateAll() {
+		invalidations.incrementAndGet();
+		entries.clear();
+		clearBloom();
+	}
+
+	/**
+	 * @return 当前条目数，包括尚未清理的过期条目
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return 命中否定记录、没有访问数据库的查找次数
+	 */
+	public long getHitCount() {
+		return hits.sum();
+	}
+
+	/**
+	 * @return 失效版本，在查找数据库之前获取，传给 {@link #markMissing(Assert, Object, long)}
+	 */
+	long stamp() {
+		return invalidations.get();
+	}
+
+	/**
+	 * 记录键查找不到，查找期间发生过失效时不记录，避免并发新增的记录被错误地缓存为不存在
+	 *
+	 * @param namespace 断言
+	 * @param key       键
+	 * @param stamp     查找数据库之前的失效版本
+	 */
+	void markMissing(Assert namespace, Object key, long stamp) {
+		Key k = new Key(namespace, key);
+		if (entries.size() >= maxSize) {
+			evict();
+		}
+		entries.put(k, System.nanoTime() + ttlNanos);
+		if (invalidations.get() != stamp) {
+			entries.remove(k);
+			return;
+		}
+		if (bloom != null) {
+			addToBloom(k.hash);
+		}
+	}
+
+	/**
+	 * 清理过期条目，仍然已满时淘汰迭代顺序靠前的八分之一条目
+	 */
+	private void evict() {
+		long now = System.nanoTime();
+		entries.values().removeIf(expiresAt -> now - expiresAt >= 0);
+		if (entries.size() < maxSize) {
+			return;
+		}
+		int excess = entries.size() - maxSize + Math.max(1, maxSize / 8);
+		Iterator<Key> iterator = entries.keySet().iterator();
+		while (excess-- > 0 && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private boolean mightContain(int hash) {
+		int h2 = secondHash(hash);
+		for (int i = 0; i < BLOOM_HASHES; i++) {
+			int bit = (hash + i * h2) & bloomMask;
+			if ((bloom.get(bit >>> 6) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void addToBloom(int hash) {
+		if (bloomInsertions.incrementAndGet() > 2L * maxSize) {
+			clearBloom();
+		}
+		int h2 = secondHash(hash);
+		for (int i = 0; i < BLOOM_HASHES; i++) {
+			int bit = (hash + i * h2) & bloomMask;
+			int word = bit >>> 6;
+			long mask = 1L << bit;
+			long current;
+			while (((current = bloom.get(word)) & mask) == 0 && !bloom.compareAndSet(word, current, current | mask)) {
+				// 重试
+			}
+		}
+	}
+
+	private void clearBloom() {
+		if (bloom == null) {
+			return;
+		}
+		bloomInsertions.set(0);
+		for (int i = 0; i < bloom.length(); i++) {
+			bloom.set(i, 0L);
+		}
+	}
+
+	private static int secondHash(int hash) {
+		int h = hash * 0x9E3779B9;
+		return (h ^ (h >>> 16)) | 1;
+	}
+
+	private static final class Key {
+		private final Assert namespace;
+		private final Object key;
+		private final int hash;
+
+		private Key(Assert namespace, Object key) {
+			this.namespace = namespace;
+			this.key = key;
+			int h = 31 * System.identityHashCode(namespace) + Objects.hashCode(key);
+			this.hash = h ^ (h >>> 16);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) o;
+			return namespace == other.namespace && Objects.equals(key, other.key);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
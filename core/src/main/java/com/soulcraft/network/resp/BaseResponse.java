@@ -29,6 +29,15 @@ public abstract class BaseResponse implements IResponse {
 		this.message = message;
 	}
 
+	/**
+	 * @param fullCode 整个错误码信息
+	 * @param message  返回消息
+	 */
+	protected BaseResponse(String fullCode, String message) {
+		this.code = fullCode;
+		this.message = message;
+	}
+
 	public static String getFullCode(String appName, String moduleName, int code) {
 		return appName + "-" + moduleName + "-" + code;
 	}
@@ -0,0 +1,98 @@
+package com.soulcraft.network.resp;
+
+/**
+ * <p>
+ * 返回信息枚举
+ * </p>
+ *
+ * @author Scott
+ * @since 2022-03-10
+ */
+public interface IResponseEnum {
+	/**
+	 * 系统/应用 简称
+	 *
+	 * @return 系统/应用 简称
+	 */
+	String getAppName();
+
+	/**
+	 * 模块/组件 简称
+	 *
+	 * @return 模块/组件 简称
+	 */
+	String getModuleName();
+
+	/**
+	 * 返回码
+	 *
+	 * @return 返回码
+	 */
+	int getCode();
+
+	/**
+	 * <pre>
+	 * 整个错误码信息，包含：
+	 * 1. 系统/应用 简称
+	 * 2. 模块/组件 简称
+	 * 3. 返回码
+	 * </pre>
+	 *
+	 * @return 整个错误码信息
+	 */
+	default String getFullCode() {
+		return BaseResponse.getFullCode(getAppName(), getModuleName(), getCode());
+	}
+
+	/**
+	 * 返回消息
+	 *
+	 * @return 返回消息
+	 */
+	String getMessage();
+
+	/**
+	 * <pre>
+	 * 作为错误返回时的 HTTP 状态码
+	 * 默认为 200，与未声明状态码时所有错误均返回 200 的行为保持一致
+	 * </pre>
+	 *
+	 * @return HTTP 状态码
+	 */
+	default int getHttpStatus() {
+		return 200;
+	}
+
+	/**
+	 * <pre>
+	 * 作为错误返回时的 Cache-Control 响应头
+	 * 用于允许网关、CDN 缓存否定结果，例如记录不存在
+	 * </pre>
+	 *
+	 * @return Cache-Control 响应头，null 表示不输出
+	 */
+	default String getCacheControl() {
+		return null;
+	}
+
+	/**
+	 * 作为错误返回时的 Retry-After 响应头
+	 *
+	 * @return 建议客户端重试前等待的秒数，小于 0 表示不输出
+	 */
+	default int getRetryAfter() {
+		return -1;
+	}
+
+	/**
+	 * <pre>
+	 * 作为错误返回时，客户端是否可以重试
+	 * 死锁、连接超时等暂时性错误可以重试，违反约束等错误重试也不会成功
+	 * </pre>
+	 *
+	 * @return 是否可以重试
+	 */
+	default boolean isRetryable() {
+		return false;
+	}
+}
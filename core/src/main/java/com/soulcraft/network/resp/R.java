@@ -5,6 +5,8 @@ import com.soulcraft.network.util.MessageUtils;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.util.function.Function;
+
 /**
  * <p>
  * 通用返回对象
@@ -31,6 +33,11 @@ public class R<T> extends BaseResponse {
 		this.data = data;
 	}
 
+	private R(T data, String fullCode, String message) {
+		super(fullCode, message);
+		this.data = data;
+	}
+
 	/**
 	 * 成功返回结果
 	 */
@@ -94,4 +101,15 @@ public class R<T> extends BaseResponse {
 	public static <T> R<T> failed(T data, IResponseEnum errorCode, Object... args) {
 		return new R<>(data, errorCode, args);
 	}
+
+	/**
+	 * 转换数据，返回错误码及消息相同的新返回结果，原返回结果不变
+	 *
+	 * @param mapper 数据转换函数
+	 * @param <U>    转换后的数据类型
+	 * @return 转换后的返回结果
+	 */
+	public <U> R<U> map(Function<? super T, ? extends U> mapper) {
+		return new R<>(mapper.apply(data), getCode(), getMessage());
+	}
 }
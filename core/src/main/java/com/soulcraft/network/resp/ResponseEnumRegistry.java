@@ -0,0 +1,190 @@
+package com.soulcraft.network.resp;
+
+import com.soulcraft.network.resp.error.CommonResponseEnum;
+import com.soulcraft.network.resp.error.DbResponseEnum;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import com.soulcraft.network.resp.error.ServletResponseEnum;
+import lombok.extern.java.Log;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>
+ * 返回信息枚举注册表
+ * </p>
+ * <p>
+ * 为每个整个错误码分配一个紧凑的数值编号，高 37 位为 “系统-模块” 的哈希值，低 16 位为返回码，共 53 位，
+ * 在 JavaScript 中也可以精确表示；编号只与错误码本身有关，不依赖注册顺序，服务间可以直接使用编号传递错误码。
+ * 不同的整个错误码得到相同编号的概率极低，一旦发生，冲突的错误码都不再分配编号，
+ * 不论注册顺序如何都以字符串传递，注册不会失败。读操作无锁，注册时复制整个表。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Log
+public final class ResponseEnumRegistry {
+	/**
+	 * 未注册的错误码编号
+	 */
+	public static final long UNKNOWN_ID = -1L;
+
+	private static final int MODULE_HASH_BITS = 37;
+	private static final long MODULE_HASH_MASK = (1L << MODULE_HASH_BITS) - 1;
+	private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+	private static final long FNV_PRIME = 0x100000001B3L;
+
+	private static volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), Collections.emptyMap(),
+			Collections.emptySet());
+
+	static {
+		// 直接使用 values()，不通过反射获取枚举常量
+		register(HttpStatusEnum.values());
+		register(ServletResponseEnum.values());
+		register(DbResponseEnum.values());
+		register(CommonResponseEnum.values());
+	}
+
+	private ResponseEnumRegistry() {
+	}
+
+	/**
+	 * 注册枚举类型中的所有返回信息，通过反射获取枚举常量，native image 中需要注册该枚举类型的反射信息，
+	 * 或者改用 {@link #register(IResponseEnum...)}
+	 *
+	 * @param enumType 枚举类型
+	 * @param <E>      枚举类型
+	 */
+	public static <E extends Enum<E> & IResponseEnum> void register(Class<E> enumType) {
+		register(enumType.getEnumConstants());
+	}
+
+	/**
+	 * 注册返回信息，同一整个错误码重复注册时保留最先注册的定义；
+	 * 不同的整个错误码得到相同编号时，这些错误码都不再分配编号，只输出警告日志
+	 *
+	 * @param responseEnums 返回信息列表
+	 * @throws IllegalArgumentException 返回码超出 16 位无法编号
+	 */
+	public static synchronized void register(IResponseEnum... responseEnums) {
+		Snapshot current = snapshot;
+		Map<String, IResponseEnum> byCode = new LinkedHashMap<>(current.byCode);
+		Map<Long, IResponseEnum> byId = new HashMap<>(current.byId);
+		Set<Long> conflicts = new HashSet<>(current.conflicts);
+		for (IResponseEnum responseEnum : responseEnums) {
+			String fullCode = responseEnum.getFullCode();
+			if (byCode.containsKey(fullCode)) {
+				continue;
+			}
+			long id = packedId(responseEnum);
+			byCode.put(fullCode, responseEnum);
+			if (conflicts.contains(id)) {
+				log.warning("response code " + fullCode + " conflicts on packed id " + id + ", sent as string");
+				continue;
+			}
+			IResponseEnum existing = byId.putIfAbsent(id, responseEnum);
+			if (existing != null) {
+				// 不论注册顺序如何，冲突的错误码都以字符串传递，避免不同服务把同一编号还原为不同的错误码
+				byId.remove(id);
+				conflicts.add(id);
+				log.warning("response code " + fullCode + " conflicts with " + existing.getFullCode()
+						+ " on packed id " + id + ", both sent as string");
+			}
+		}
+		snapshot = new Snapshot(byCode, byId, conflicts);
+	}
+
+	/**
+	 * 计算返回信息的数值编号
+	 *
+	 * @param responseEnum 返回信息
+	 * @return 数值编号
+	 * @throws IllegalArgumentException 返回码超出 16 位无法编号
+	 */
+	public static long packedId(IResponseEnum responseEnum) {
+		int code = responseEnum.getCode();
+		if (code < 0 || code > 0xFFFF) {
+			throw new IllegalArgumentException("response code " + responseEnum.getFullCode() + " can not be packed");
+		}
+		return (moduleHash(responseEnum.getAppName(), responseEnum.getModuleName()) << 16) | code;
+	}
+
+	/**
+	 * 根据整个错误码查找数值编号
+	 *
+	 * @param fullCode 整个错误码信息
+	 * @return 数值编号，未注册或编号冲突时返回 {@link #UNKNOWN_ID}
+	 */
+	public static long idOf(String fullCode) {
+		Snapshot current = snapshot;
+		IResponseEnum responseEnum = current.byCode.get(fullCode);
+		if (responseEnum == null) {
+			return UNKNOWN_ID;
+		}
+		long id = packedId(responseEnum);
+		return current.byId.get(id) == responseEnum ? id : UNKNOWN_ID;
+	}
+
+	/**
+	 * 根据整个错误码查找返回信息
+	 *
+	 * @param fullCode 整个错误码信息
+	 * @return 返回信息，未注册时返回 null
+	 */
+	public static IResponseEnum find(String fullCode) {
+		return snapshot.byCode.get(fullCode);
+	}
+
+	/**
+	 * 根据数值编号查找返回信息
+	 *
+	 * @param packedId 数值编号
+	 * @return 返回信息，未注册时返回 null
+	 */
+	public static IResponseEnum find(long packedId) {
+		return snapshot.byId.get(packedId);
+	}
+
+	/**
+	 * @return 所有已注册的返回信息，按注册顺序排列
+	 */
+	public static Collection<IResponseEnum> all() {
+		return snapshot.byCode.values();
+	}
+
+	/**
+	 * “系统-模块” 的 37 位 FNV-1a 哈希值
+	 */
+	private static long moduleHash(String appName, String moduleName) {
+		long hash = FNV_OFFSET_BASIS;
+		hash = fnv(hash, appName);
+		hash = (hash ^ '-') * FNV_PRIME;
+		hash = fnv(hash, moduleName);
+		return (hash ^ (hash >>> MODULE_HASH_BITS)) & MODULE_HASH_MASK;
+	}
+
+	private static long fnv(long hash, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private static final class Snapshot {
+		private final Map<String, IResponseEnum> byCode;
+		private final Map<Long, IResponseEnum> byId;
+		private final Set<Long> conflicts;
+
+		private Snapshot(Map<String, IResponseEnum> byCode, Map<Long, IResponseEnum> byId, Set<Long> conflicts) {
+			this.byCode = Collections.unmodifiableMap(byCode);
+			this.byId = byId;
+			this.conflicts = conflicts;
+		}
+	}
+}
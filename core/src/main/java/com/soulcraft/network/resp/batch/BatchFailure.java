@@ -0,0 +1,31 @@
+package com.soulcraft.network.resp.batch;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 批量结果中一个失败条目的错误信息，参见 {@link BatchR}
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Getter
+@AllArgsConstructor
+public class BatchFailure {
+	/**
+	 * 整个错误码信息
+	 */
+	private final String code;
+	/**
+	 * 国际化后的错误消息，相同的消息在批量结果中只保存一份
+	 */
+	private final String message;
+	/**
+	 * 按 {@link com.soulcraft.network.exception.ArgumentCapturePolicy} 截断后的消息参数，没有参数时为空列表
+	 */
+	private final List<String> args;
+}
@@ -0,0 +1,288 @@
+package com.soulcraft.network.resp.batch;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.soulcraft.network.exception.ArgumentCapturePolicy;
+import com.soulcraft.network.exception.BaseException;
+import com.soulcraft.network.resp.BaseResponse;
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.resp.error.CommonResponseEnum;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import com.soulcraft.network.resp.json.BatchRDeserializer;
+import com.soulcraft.network.resp.json.BatchRSerializer;
+import com.soulcraft.network.util.MessageUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * <p>
+ * 批量接口的返回对象，替代 R&lt;List&lt;R&lt;T&gt;&gt;&gt;
+ * </p>
+ * <p>
+ * 每个条目是否成功记录在位图中，成功条目的数据按下标顺序放在 data 中，
+ * 失败条目按下标稀疏保存错误码、消息及参数；序列化时错误码及消息各自去重为一张表，失败条目只引用表中的序号，
+ * 参见 {@link BatchRSerializer}；序列化器及反序列化器通过注解指定，不依赖 {@link com.soulcraft.network.resp.json.EnvelopeModule}。
+ * 有失败条目时整体错误码为 {@link CommonResponseEnum#COMPOSITE_FAILURE}，否则为 {@link HttpStatusEnum#OK}。
+ * </p>
+ * <pre>
+ *     BatchR.Builder&lt;Long&gt; builder = BatchR.builder(items.size());
+ *     for (Item item : items) {
+ *         try {
+ *             builder.success(service.create(item));
+ *         } catch (BaseException e) {
+ *             builder.failure(e);
+ *         }
+ *     }
+ *     return builder.build();
+ * </pre>
+ *
+ * @param <T> 成功条目的数据类型
+ * @author Scott
+ * @since 2026-10-19
+ */
+@JsonSerialize(using = BatchRSerializer.class)
+@JsonDeserialize(using = BatchRDeserializer.class)
+public class BatchR<T> extends BaseResponse {
+	private final int size;
+	private final BitSet succeeded;
+	private final List<T> data;
+	private final SortedMap<Integer, BatchFailure> failures;
+
+	/**
+	 * @param code      整个错误码信息
+	 * @param message   返回消息
+	 * @param size      条目数
+	 * @param succeeded 成功条目的位图
+	 * @param data      成功条目的数据，按下标顺序排列，没有数据时为 null
+	 * @param failures  失败条目的下标及错误信息
+	 */
+	public BatchR(String code, String message, int size, BitSet succeeded, List<T> data,
+				  SortedMap<Integer, BatchFailure> failures) {
+		super(code, message);
+		this.size = size;
+		this.succeeded = succeeded;
+		this.data = data;
+		this.failures = failures;
+	}
+
+	/**
+	 * @param expectedSize 预计的条目数
+	 * @param <T>          成功条目的数据类型
+	 * @return 按下标顺序追加条目的构造器
+	 */
+	public static <T> Builder<T> builder(int expectedSize) {
+		return new Builder<>(expectedSize);
+	}
+
+	/**
+	 * @return 条目数
+	 */
+	public int getSize() {
+		return size;
+	}
+
+	/**
+	 * @return 成功的条目数
+	 */
+	public int getSuccessCount() {
+		return size - failures.size();
+	}
+
+	/**
+	 * @return 失败的条目数
+	 */
+	public int getFailureCount() {
+		return failures.size();
+	}
+
+	/**
+	 * @param index 条目下标
+	 * @return 条目是否成功
+	 */
+	public boolean isSucceeded(int index) {
+		checkIndex(index);
+		return succeeded.get(index);
+	}
+
+	/**
+	 * @return 成功条目的位图副本
+	 */
+	public BitSet getSucceeded() {
+		return (BitSet) succeeded.clone();
+	}
+
+	/**
+	 * @return 成功条目的数据，按下标顺序排列，没有数据时为 null
+	 */
+	public List<T> getData() {
+		return data;
+	}
+
+	/**
+	 * @return 失败条目的下标及错误信息，按下标排序
+	 */
+	public SortedMap<Integer, BatchFailure> getFailures() {
+		return Collections.unmodifiableSortedMap(failures);
+	}
+
+	/**
+	 * 获取成功条目的数据，需要统计之前的成功条目数，顺序访问时使用 {@link #forEachSuccess(ObjIntConsumer)}
+	 *
+	 * @param index 条目下标
+	 * @return 条目的数据，条目失败或没有数据时为 null
+	 */
+	public T getItem(int index) {
+		if (data == null || !isSucceeded(index)) {
+			return null;
+		}
+		return data.get(succeeded.get(0, index).cardinality());
+	}
+
+	/**
+	 * @param index 条目下标
+	 * @return 失败条目的错误信息，条目成功时为 null
+	 */
+	public BatchFailure getFailure(int index) {
+		checkIndex(index);
+		return failures.get(index);
+	}
+
+	/**
+	 * 按下标顺序遍历成功条目
+	 *
+	 * @param action 参数为条目的数据（没有数据时为 null）及下标
+	 */
+	public void forEachSuccess(ObjIntConsumer<? super T> action) {
+		int rank = 0;
+		for (int i = succeeded.nextSetBit(0); i >= 0 && i < size; i = succeeded.nextSetBit(i + 1)) {
+			action.accept(data == null ? null : data.get(rank++), i);
+		}
+	}
+
+	/**
+	 * 按下标顺序遍历失败条目
+	 *
+	 * @param action 参数为条目的错误信息及下标
+	 */
+	public void forEachFailure(ObjIntConsumer<? super BatchFailure> action) {
+		for (Map.Entry<Integer, BatchFailure> failure : failures.entrySet()) {
+			action.accept(failure.getValue(), failure.getKey());
+		}
+	}
+
+	private void checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+		}
+	}
+
+	/**
+	 * 按下标顺序追加条目的构造器，不是线程安全的
+	 *
+	 * @param <T> 成功条目的数据类型
+	 */
+	public static final class Builder<T> {
+		private final BitSet succeeded;
+		private final List<T> data;
+		private final SortedMap<Integer, BatchFailure> failures = new TreeMap<>();
+		private final Map<String, String> messages = new HashMap<>();
+		private final Map<List<Object>, String> formatted = new HashMap<>();
+		private int size;
+		private boolean hasData;
+
+		private Builder(int expectedSize) {
+			this.succeeded = new BitSet(expectedSize);
+			this.data = new ArrayList<>(expectedSize);
+		}
+
+		/**
+		 * 追加一个没有数据的成功条目
+		 *
+		 * @return 构造器
+		 */
+		public Builder<T> success() {
+			return success(null);
+		}
+
+		/**
+		 * 追加一个成功条目
+		 *
+		 * @param item 条目的数据
+		 * @return 构造器
+		 */
+		public Builder<T> success(T item) {
+			succeeded.set(size++);
+			data.add(item);
+			hasData |= item != null;
+			return this;
+		}
+
+		/**
+		 * 追加一个失败条目，相同错误码及参数的消息只格式化一次
+		 *
+		 * @param errorCode 错误码
+		 * @param args      消息参数
+		 * @return 构造器
+		 */
+		public Builder<T> failure(IResponseEnum errorCode, Object... args) {
+			Object[] captured = ArgumentCapturePolicy.getDefault().capture(args);
+			List<Object> key = new ArrayList<>(captured == null ? 1 : captured.length + 1);
+			key.add(errorCode);
+			if (captured != null) {
+				key.addAll(Arrays.asList(captured));
+			}
+			String message = formatted.get(key);
+			if (message == null) {
+				message = MessageUtils.getResponseMessage(errorCode, captured);
+				formatted.put(key, message);
+			}
+			return failure(errorCode, message, captured);
+		}
+
+		/**
+		 * 追加一个失败条目，错误码、消息及参数取自异常
+		 *
+		 * @param e 异常
+		 * @return 构造器
+		 */
+		public Builder<T> failure(BaseException e) {
+			return failure(e.getResponseEnum(), e.getMessage(), e.getArgs());
+		}
+
+		private Builder<T> failure(IResponseEnum errorCode, String message, Object[] args) {
+			List<String> capturedArgs;
+			if (args == null || args.length == 0) {
+				capturedArgs = Collections.emptyList();
+			} else {
+				capturedArgs = new ArrayList<>(args.length);
+				for (Object arg : args) {
+					capturedArgs.add(String.valueOf(arg));
+				}
+			}
+			String shared = message == null ? null : messages.computeIfAbsent(message, m -> m);
+			failures.put(size++, new BatchFailure(errorCode.getFullCode(), shared, capturedArgs));
+			return this;
+		}
+
+		/**
+		 * @return 批量结果，所有成功条目都没有数据时不输出 data
+		 */
+		public BatchR<T> build() {
+			IResponseEnum responseEnum = failures.isEmpty() ? HttpStatusEnum.OK : CommonResponseEnum.COMPOSITE_FAILURE;
+			String message = failures.isEmpty()
+					? MessageUtils.getResponseMessage(responseEnum)
+					: MessageUtils.getResponseMessage(responseEnum, failures.size());
+			return new BatchR<>(responseEnum.getFullCode(), message, size, (BitSet) succeeded.clone(),
+					hasData ? new ArrayList<>(data) : null, new TreeMap<>(failures));
+		}
+	}
+}
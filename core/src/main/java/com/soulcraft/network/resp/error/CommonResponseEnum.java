@@ -16,8 +16,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum CommonResponseEnum implements BusinessExceptionAssert {
 
-	VALIDATE_FAILED(800, "Validate failed"),
-	INVALID_PARAMETER(801, "Invalid parameter."),
+	VALIDATE_FAILED(800, "Validate failed", 400),
+	INVALID_PARAMETER(801, "Invalid parameter.", 400),
+	COMPOSITE_FAILURE(802, "Multiple subtasks failed.", 500),
 	;
 
 	/**
@@ -28,6 +29,10 @@ public enum CommonResponseEnum implements BusinessExceptionAssert {
 	 * 返回消息
 	 */
 	private String message;
+	/**
+	 * HTTP 状态码
+	 */
+	private int httpStatus;
 
 	public String getAppName() {
 		return "COM";
@@ -0,0 +1,79 @@
+package com.soulcraft.network.resp.error;
+
+import com.soulcraft.network.exception.BusinessExceptionAssert;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ * 数据库返回信息枚举
+ * </p>
+ *
+ * @author Scott
+ * @since 2022-03-10
+ */
+@Getter
+@AllArgsConstructor
+public enum DbResponseEnum implements BusinessExceptionAssert {
+
+	DB_OPERATION_ERROR(600, "Database operation failed", 500),
+	DUPLICATED_KEY_ERROR(601, "Duplicated key found", 409),
+	RECORD_ALREADY_EXISTED(602, "Record already existed: {0}", 409),
+	RECORD_IN_USE(603, "Record in use.", 409),
+	RECORD_NOT_FOUND(604, "Record {0} not found.", 404),
+	RECORD_CREATE_FAILED(605, "Record create failed.", 500),
+	RECORD_UPDATE_FAILED(606, "Record update failed.", 500),
+	RECORD_DELETE_FAILED(607, "Record delete failed.", 500),
+	DB_LOCK_CONFLICT(608, "Database lock conflict, please retry later.", 409),
+	DB_QUERY_TIMEOUT(609, "Database query timed out.", 504),
+	DB_UNAVAILABLE(610, "Database temporarily unavailable.", 503),
+	DB_CONSTRAINT_VIOLATION(611, "Database constraint violated.", 409),
+	DB_TRANSIENT_ERROR(612, "Transient database error, please retry later.", 503),
+	;
+
+	/**
+	 * 返回码
+	 */
+	private int code;
+	/**
+	 * 返回消息
+	 */
+	private String message;
+	/**
+	 * HTTP 状态码
+	 */
+	private int httpStatus;
+
+	public String getAppName() {
+		return "COM";
+	}
+
+	public String getModuleName() {
+		return "DB";
+	}
+
+	@Override
+	public String getCacheControl() {
+		return this == RECORD_NOT_FOUND ? HttpStatusEnum.NOT_FOUND_CACHE_CONTROL : null;
+	}
+
+	@Override
+	public int getRetryAfter() {
+		switch (this) {
+			case DB_LOCK_CONFLICT:
+			case DB_TRANSIENT_ERROR:
+				return 1;
+			case DB_QUERY_TIMEOUT:
+				return 2;
+			case DB_UNAVAILABLE:
+				return 5;
+			default:
+				return -1;
+		}
+	}
+
+	@Override
+	public boolean isRetryable() {
+		return getRetryAfter() >= 0;
+	}
+}
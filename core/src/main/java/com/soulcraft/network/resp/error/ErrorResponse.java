@@ -0,0 +1,79 @@
+package com.soulcraft.network.resp.error;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.soulcraft.network.resp.BaseResponse;
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.util.MessageUtils;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * <p>
+ * 错误返回信息
+ * </p>
+ *
+ * @author Scott
+ * @since 2022-03-10
+ */
+public class ErrorResponse extends BaseResponse {
+	/**
+	 * 子错误信息，如并行子任务的多个失败，没有时为 null
+	 */
+	@Getter
+	@Setter
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private List<ErrorResponse> errors;
+	/**
+	 * 参数校验失败的明细，数量有上限，没有时为 null
+	 */
+	@Getter
+	@Setter
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private List<FieldErrorDetail> fieldErrors;
+	/**
+	 * 超出上限未输出的参数校验失败数，没有截断时为 null
+	 */
+	@Getter
+	@Setter
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Integer fieldErrorsOmitted;
+	/**
+	 * 客户端是否可以重试，不可重试时为 null
+	 */
+	@Getter
+	@Setter
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Boolean retryable;
+	/**
+	 * 建议客户端重试前等待的秒数，没有时为 null
+	 */
+	@Getter
+	@Setter
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private Integer retryAfter;
+
+	/**
+	 * 构造错误返回信息
+	 *
+	 * @param code    返回码
+	 * @param message 返回信息
+	 */
+	public ErrorResponse(String appName, String moduleName, int code, String message) {
+		super(appName, moduleName, code, message);
+	}
+
+	public ErrorResponse(IResponseEnum responseEnum, String message) {
+		this(responseEnum.getAppName(), responseEnum.getModuleName(), responseEnum.getCode(), message);
+		if (responseEnum.isRetryable()) {
+			this.retryable = Boolean.TRUE;
+			int seconds = responseEnum.getRetryAfter();
+			this.retryAfter = seconds >= 0 ? seconds : null;
+		}
+	}
+
+	public ErrorResponse(IResponseEnum responseEnum) {
+		this(responseEnum, MessageUtils.getResponseMessage(responseEnum));
+	}
+}
@@ -0,0 +1,31 @@
+package com.soulcraft.network.resp.error;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ * 参数校验失败的明细，参见 {@link ErrorResponse#getFieldErrors()}
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class FieldErrorDetail {
+	/**
+	 * 字段路径，如 items[3].name；对象级别的校验失败为 null
+	 */
+	private final String field;
+	/**
+	 * 校验约束，如 NotNull
+	 */
+	private final String code;
+	/**
+	 * 校验失败消息
+	 */
+	private final String message;
+}
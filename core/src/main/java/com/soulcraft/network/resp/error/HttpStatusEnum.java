@@ -3,7 +3,6 @@ package com.soulcraft.network.resp.error;
 import com.soulcraft.network.exception.BusinessExceptionAssert;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import org.springframework.http.HttpStatus;
 
 /**
  * <p>
@@ -11,7 +10,7 @@ import org.springframework.http.HttpStatus;
  * </p>
  *
  * @author Scott
- * @see HttpStatus
+ * @see org.springframework.http.HttpStatus
  * @since 2022-03-10
  */
 @Getter
@@ -464,6 +463,11 @@ public enum HttpStatusEnum implements BusinessExceptionAssert {
 	NETWORK_AUTHENTICATION_REQUIRED(511, "Network Authentication Required"),
 	;
 
+	/**
+	 * 资源不存在时的缓存策略，网关、CDN 可在此期间直接返回否定结果
+	 */
+	public static final String NOT_FOUND_CACHE_CONTROL = "max-age=30";
+
 	/**
 	 * 返回码
 	 */
@@ -481,4 +485,38 @@ public enum HttpStatusEnum implements BusinessExceptionAssert {
 		return "HTTP";
 	}
 
+	@Override
+	public int getHttpStatus() {
+		return code;
+	}
+
+	@Override
+	public String getCacheControl() {
+		switch (this) {
+			case NOT_FOUND:
+				return NOT_FOUND_CACHE_CONTROL;
+			case GONE:
+				return "max-age=3600";
+			default:
+				return null;
+		}
+	}
+
+	@Override
+	public int getRetryAfter() {
+		switch (this) {
+			case TOO_MANY_REQUESTS:
+				return 1;
+			case SERVICE_UNAVAILABLE:
+				return 5;
+			default:
+				return -1;
+		}
+	}
+
+	@Override
+	public boolean isRetryable() {
+		return getRetryAfter() >= 0;
+	}
+
 }
@@ -4,6 +4,9 @@ import com.soulcraft.network.exception.BusinessExceptionAssert;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * <p>
  * Servlet返回信息枚举
@@ -15,19 +18,31 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum ServletResponseEnum implements BusinessExceptionAssert {
-	NoHandlerFoundException(700, "No handler found exception"),
-	HttpRequestMethodNotSupportedException(701, "Http request method not supported exception"),
-	HttpMediaTypeNotSupportedException(702, "Http media type not supported exception"),
-	MissingPathVariableException(703, "Missing path variable exception"),
-	MissingServletRequestParameterException(704, "Missing servlet request parameter exception"),
-	TypeMismatchException(705, "Type mismatch exception"),
-	HttpMessageNotReadableException(706, "Http message not readable exception"),
-	HttpMessageNotWritableException(707, "Http message not writable exception"),
-	HttpMediaTypeNotAcceptableException(708, "Http media type not acceptable exception"),
-	ServletRequestBindingException(709, "Servlet request binding exception"),
-	ConversionNotSupportedException(710, "Conversion not supported exception"),
-	MissingServletRequestPartException(711, "Missing servlet request part exception"),
-	AsyncRequestTimeoutException(712, "Async request timeout exception");
+	NoHandlerFoundException(700, "No handler found exception", 404),
+	HttpRequestMethodNotSupportedException(701, "Http request method not supported exception", 405),
+	HttpMediaTypeNotSupportedException(702, "Http media type not supported exception", 415),
+	MissingPathVariableException(703, "Missing path variable exception", 500),
+	MissingServletRequestParameterException(704, "Missing servlet request parameter exception", 400),
+	TypeMismatchException(705, "Type mismatch exception", 400),
+	HttpMessageNotReadableException(706, "Http message not readable exception", 400),
+	HttpMessageNotWritableException(707, "Http message not writable exception", 500),
+	HttpMediaTypeNotAcceptableException(708, "Http media type not acceptable exception", 406),
+	ServletRequestBindingException(709, "Servlet request binding exception", 400),
+	ConversionNotSupportedException(710, "Conversion not supported exception", 500),
+	MissingServletRequestPartException(711, "Missing servlet request part exception", 400),
+	AsyncRequestTimeoutException(712, "Async request timeout exception", 503);
+
+	/**
+	 * 按异常类的简单类名查找，不使用 {@link Enum#valueOf(Class, String)}，也不会抛出异常
+	 */
+	private static final Map<String, ServletResponseEnum> BY_EXCEPTION_NAME = new HashMap<>();
+
+	static {
+		for (ServletResponseEnum responseEnum : values()) {
+			BY_EXCEPTION_NAME.put(responseEnum.name(), responseEnum);
+		}
+	}
+
 	/**
 	 * 返回码
 	 */
@@ -36,6 +51,10 @@ public enum ServletResponseEnum implements BusinessExceptionAssert {
 	 * 返回消息
 	 */
 	private String message;
+	/**
+	 * HTTP 状态码
+	 */
+	private int httpStatus;
 
 	public String getAppName() {
 		return "COM";
@@ -44,4 +63,14 @@ public enum ServletResponseEnum implements BusinessExceptionAssert {
 	public String getModuleName() {
 		return "SRVL";
 	}
+
+	/**
+	 * 根据异常类型查找返回信息枚举，只比较简单类名，因此不需要加载 Spring 的异常类
+	 *
+	 * @param exceptionType 异常类型
+	 * @return 返回信息枚举，未定义时返回 null
+	 */
+	public static ServletResponseEnum of(Class<?> exceptionType) {
+		return BY_EXCEPTION_NAME.get(exceptionType.getSimpleName());
+	}
 }
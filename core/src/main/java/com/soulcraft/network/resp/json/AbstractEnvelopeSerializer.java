@@ -0,0 +1,49 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * 返回报文序列化器基类，直接通过 {@link JsonGenerator} 输出报文字段，不经过反射
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public abstract class AbstractEnvelopeSerializer<T> extends StdSerializer<T> {
+
+	protected AbstractEnvelopeSerializer(Class<?> type) {
+		super(type, false);
+	}
+
+	@Override
+	public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		gen.writeStartObject(value);
+		writeFields(value, gen, provider);
+		gen.writeEndObject();
+	}
+
+	@Override
+	public void serializeWithType(T value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+		WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(value, JsonToken.START_OBJECT));
+		writeFields(value, gen, provider);
+		typeSer.writeTypeSuffix(gen, typeId);
+	}
+
+	/**
+	 * 输出报文字段
+	 *
+	 * @param value    报文对象
+	 * @param gen      JSON 生成器
+	 * @param provider 序列化上下文
+	 * @throws IOException 输出异常
+	 */
+	protected abstract void writeFields(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+}
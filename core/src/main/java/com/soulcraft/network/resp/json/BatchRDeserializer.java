@@ -0,0 +1,173 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.resp.ResponseEnumRegistry;
+import com.soulcraft.network.resp.batch.BatchFailure;
+import com.soulcraft.network.resp.batch.BatchR;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * <p>
+ * {@link BatchR} 反序列化器，读取 {@link BatchRSerializer} 输出的报文，供客户端使用
+ * </p>
+ * <p>
+ * 字段顺序任意，未知字段忽略；错误码为数值编号时按 {@link ResponseEnumRegistry} 还原为整个错误码信息。
+ * 通过 {@link BatchR} 上的注解使用时，按上下文中的泛型参数确定成功条目的数据类型。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class BatchRDeserializer extends StdDeserializer<BatchR<?>> implements ContextualDeserializer {
+	private final JavaType dataType;
+
+	/**
+	 * 成功条目的数据类型未知，按 Object 读取
+	 */
+	public BatchRDeserializer() {
+		this(null);
+	}
+
+	/**
+	 * @param itemType 成功条目的数据类型
+	 */
+	public BatchRDeserializer(JavaType itemType) {
+		super(BatchR.class);
+		this.dataType = itemType == null || itemType.isJavaLangObject() ? null : itemType;
+	}
+
+	@Override
+	public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+		JavaType type = ctxt.getContextualType();
+		if (type == null && property != null) {
+			type = property.getType();
+		}
+		if (type == null || type.getRawClass() != BatchR.class) {
+			return this;
+		}
+		JavaType itemType = type.containedType(0);
+		return itemType == null || itemType.isJavaLangObject() ? this : new BatchRDeserializer(itemType);
+	}
+
+	@Override
+	public BatchR<?> deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		if (p.currentToken() != JsonToken.START_OBJECT) {
+			return (BatchR<?>) ctxt.handleUnexpectedToken(BatchR.class, p);
+		}
+		String code = null;
+		String message = null;
+		int size = 0;
+		BitSet succeeded = new BitSet();
+		List<?> data = null;
+		List<String> codes = Collections.emptyList();
+		List<String> messages = Collections.emptyList();
+		List<List<Object>> failures = Collections.emptyList();
+
+		for (String name = p.nextFieldName(); name != null; name = p.nextFieldName()) {
+			JsonToken token = p.nextToken();
+			if (token == JsonToken.VALUE_NULL) {
+				continue;
+			}
+			switch (name) {
+				case "code":
+					code = readCode(p);
+					break;
+				case "message":
+					message = p.getValueAsString();
+					break;
+				case "size":
+					size = p.getIntValue();
+					break;
+				case "succeeded":
+					succeeded = BitSet.valueOf(p.getBinaryValue());
+					break;
+				case "data":
+					data = readData(p, ctxt);
+					break;
+				case "codes":
+					codes = readStrings(p, true);
+					break;
+				case "messages":
+					messages = readStrings(p, false);
+					break;
+				case "failures":
+					failures = readFailures(p);
+					break;
+				default:
+					p.skipChildren();
+			}
+		}
+
+		SortedMap<Integer, BatchFailure> failureMap = new TreeMap<>();
+		for (List<Object> failure : failures) {
+			int messageRef = (Integer) failure.get(2);
+			List<String> args = new ArrayList<>(failure.size() - 3);
+			for (int i = 3; i < failure.size(); i++) {
+				args.add((String) failure.get(i));
+			}
+			failureMap.put((Integer) failure.get(0), new BatchFailure(codes.get((Integer) failure.get(1)),
+					messageRef < 0 ? null : messages.get(messageRef), args));
+		}
+		@SuppressWarnings({"unchecked", "rawtypes"})
+		BatchR<?> result = new BatchR(code, message, size, succeeded, data, failureMap);
+		return result;
+	}
+
+	private List<?> readData(JsonParser p, DeserializationContext ctxt) throws IOException {
+		if (dataType == null) {
+			return ctxt.readValue(p, List.class);
+		}
+		JavaType listType = ctxt.getTypeFactory().constructCollectionType(List.class, dataType);
+		JsonDeserializer<Object> deserializer = ctxt.findRootValueDeserializer(listType);
+		return (List<?>) deserializer.deserialize(p, ctxt);
+	}
+
+	/**
+	 * 读取错误码，数值编号按注册表还原
+	 */
+	private static String readCode(JsonParser p) throws IOException {
+		if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+			IResponseEnum responseEnum = ResponseEnumRegistry.find(p.getLongValue());
+			return responseEnum == null ? p.getText() : responseEnum.getFullCode();
+		}
+		return p.getText();
+	}
+
+	private static List<String> readStrings(JsonParser p, boolean fullCodes) throws IOException {
+		List<String> values = new ArrayList<>();
+		while (p.nextToken() != JsonToken.END_ARRAY) {
+			values.add(fullCodes ? readCode(p) : p.getText());
+		}
+		return values;
+	}
+
+	/**
+	 * 读取失败条目，每个条目为 [下标, 错误码序号, 消息序号, 参数...]
+	 */
+	private static List<List<Object>> readFailures(JsonParser p) throws IOException {
+		List<List<Object>> failures = new ArrayList<>();
+		while (p.nextToken() == JsonToken.START_ARRAY) {
+			List<Object> failure = new ArrayList<>(4);
+			for (int i = 0; p.nextToken() != JsonToken.END_ARRAY; i++) {
+				failure.add(i < 3 ? (Object) p.getIntValue() : p.getText());
+			}
+			failures.add(failure);
+		}
+		return failures;
+	}
+}
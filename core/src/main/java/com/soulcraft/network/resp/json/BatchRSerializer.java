@@ -0,0 +1,100 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.soulcraft.network.resp.batch.BatchFailure;
+import com.soulcraft.network.resp.batch.BatchR;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * {@link BatchR} 序列化器，data 交由默认的序列化器处理
+ * </p>
+ * <pre>
+ * {
+ *     "code": "COM-SRV-802",
+ *     "message": "2 subtasks failed.",
+ *     "size": 10000,
+ *     "succeeded": "...",                      成功条目的位图，小端字节序，JSON 中为 Base64
+ *     "data": [...],                           成功条目的数据，按下标顺序排列，没有数据时不输出
+ *     "codes": ["COM-DB-604"],                 去重后的错误码表
+ *     "messages": ["Record 7 not found."],     去重后的消息表
+ *     "failures": [[17, 0, 0, "7"], ...]       [下标, 错误码序号, 消息序号, 参数...]，没有失败条目时不输出
+ *                                              没有消息或不输出返回消息时消息序号为 -1
+ * }
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ * @see BatchRDeserializer
+ */
+public class BatchRSerializer extends AbstractEnvelopeSerializer<BatchR<?>> {
+
+	public BatchRSerializer() {
+		super(BatchR.class);
+	}
+
+	@Override
+	protected void writeFields(BatchR<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		EnvelopeFields.writeCodeAndMessage(value, gen, provider, EnvelopeFields.writeNull(provider, BatchR.class));
+		gen.writeFieldName(EnvelopeFields.SIZE);
+		gen.writeNumber(value.getSize());
+		gen.writeFieldName(EnvelopeFields.SUCCEEDED);
+		gen.writeBinary(value.getSucceeded().toByteArray());
+		if (value.getData() != null) {
+			EnvelopeFields.writeValue(EnvelopeFields.DATA, value.getData(), gen, provider, false);
+		}
+		if (value.getFailureCount() > 0) {
+			writeFailures(value.getFailures(), gen, Boolean.TRUE.equals(provider.getAttribute(EnvelopeFields.ATTR_OMIT_MESSAGE)));
+		}
+	}
+
+	/**
+	 * 输出错误码表、消息表及失败条目，不输出返回消息时消息表为空，消息序号为 -1
+	 */
+	private static void writeFailures(Map<Integer, BatchFailure> failures, JsonGenerator gen, boolean omitMessage)
+			throws IOException {
+		Map<String, Integer> codes = new LinkedHashMap<>();
+		Map<String, Integer> messages = new LinkedHashMap<>();
+		List<int[]> refs = new ArrayList<>(failures.size());
+		for (BatchFailure failure : failures.values()) {
+			int code = codes.computeIfAbsent(failure.getCode(), c -> codes.size());
+			int message = omitMessage || failure.getMessage() == null
+					? -1 : messages.computeIfAbsent(failure.getMessage(), m -> messages.size());
+			refs.add(new int[]{code, message});
+		}
+		writeTable(EnvelopeFields.CODE_TABLE, codes, gen);
+		writeTable(EnvelopeFields.MESSAGE_TABLE, messages, gen);
+
+		gen.writeFieldName(EnvelopeFields.FAILURES);
+		gen.writeStartArray();
+		int i = 0;
+		for (Map.Entry<Integer, BatchFailure> failure : failures.entrySet()) {
+			int[] ref = refs.get(i++);
+			gen.writeStartArray();
+			gen.writeNumber(failure.getKey());
+			gen.writeNumber(ref[0]);
+			gen.writeNumber(ref[1]);
+			for (String arg : failure.getValue().getArgs()) {
+				gen.writeString(arg);
+			}
+			gen.writeEndArray();
+		}
+		gen.writeEndArray();
+	}
+
+	private static void writeTable(SerializedString name, Map<String, Integer> table, JsonGenerator gen) throws IOException {
+		gen.writeFieldName(name);
+		gen.writeStartArray();
+		for (String entry : table.keySet()) {
+			gen.writeString(entry);
+		}
+		gen.writeEndArray();
+	}
+}
@@ -0,0 +1,195 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.soulcraft.network.resp.BaseResponse;
+import com.soulcraft.network.resp.ResponseEnumRegistry;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * 返回报文字段名及错误码的预编码缓存
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class EnvelopeFields {
+	public static final SerializedString CODE = new SerializedString("code");
+	public static final SerializedString MESSAGE = new SerializedString("message");
+	public static final SerializedString DATA = new SerializedString("data");
+	public static final SerializedString PAGE_NUM = new SerializedString("pageNum");
+	public static final SerializedString PAGE_SIZE = new SerializedString("pageSize");
+	public static final SerializedString TOTAL_PAGE = new SerializedString("totalPage");
+	public static final SerializedString TOTAL = new SerializedString("total");
+	public static final SerializedString LIST = new SerializedString("list");
+	public static final SerializedString ERRORS = new SerializedString("errors");
+	public static final SerializedString FIELD_ERRORS = new SerializedString("fieldErrors");
+	public static final SerializedString FIELD_ERRORS_OMITTED = new SerializedString("fieldErrorsOmitted");
+	public static final SerializedString FIELD = new SerializedString("field");
+	public static final SerializedString SIZE = new SerializedString("size");
+	public static final SerializedString SUCCEEDED = new SerializedString("succeeded");
+	public static final SerializedString CODE_TABLE = new SerializedString("codes");
+	public static final SerializedString MESSAGE_TABLE = new SerializedString("messages");
+	public static final SerializedString FAILURES = new SerializedString("failures");
+	public static final SerializedString RETRYABLE = new SerializedString("retryable");
+	public static final SerializedString RETRY_AFTER = new SerializedString("retryAfter");
+
+	/**
+	 * 序列化属性：为 {@link Boolean#TRUE} 时，已注册的错误码以数值编号输出
+	 *
+	 * @see ResponseEnumRegistry#idOf(String)
+	 */
+	public static final String ATTR_PACKED_CODE = EnvelopeFields.class.getName() + ".packedCode";
+	/**
+	 * 序列化属性：为 {@link Boolean#TRUE} 时，不输出返回消息
+	 */
+	public static final String ATTR_OMIT_MESSAGE = EnvelopeFields.class.getName() + ".omitMessage";
+
+	/**
+	 * 错误码缓存上限，错误码来自枚举定义，数量有限；超出上限后不再缓存
+	 */
+	private static final int MAX_CACHED_CODES = 4096;
+	private static final ConcurrentMap<String, SerializedString> CODES = new ConcurrentHashMap<>();
+
+	private EnvelopeFields() {
+	}
+
+	/**
+	 * 获取错误码的预编码字符串
+	 *
+	 * @param code 整个错误码信息
+	 * @return 预编码字符串
+	 */
+	public static SerializedString code(String code) {
+		SerializedString encoded = CODES.get(code);
+		if (encoded == null) {
+			encoded = new SerializedString(code);
+			if (CODES.size() < MAX_CACHED_CODES) {
+				SerializedString existing = CODES.putIfAbsent(code, encoded);
+				if (existing != null) {
+					encoded = existing;
+				}
+			}
+		}
+		return encoded;
+	}
+
+	/**
+	 * 输出错误码及返回消息
+	 *
+	 * @param response  返回信息
+	 * @param gen       JSON 生成器
+	 * @param provider  序列化上下文
+	 * @param writeNull 是否输出 null 值
+	 * @throws IOException 输出异常
+	 */
+	public static void writeCodeAndMessage(BaseResponse response, JsonGenerator gen, SerializerProvider provider,
+										   boolean writeNull) throws IOException {
+		String fullCode = response.getCode();
+		long packedId = fullCode != null && Boolean.TRUE.equals(provider.getAttribute(ATTR_PACKED_CODE))
+				? ResponseEnumRegistry.idOf(fullCode) : ResponseEnumRegistry.UNKNOWN_ID;
+		if (packedId != ResponseEnumRegistry.UNKNOWN_ID) {
+			gen.writeFieldName(CODE);
+			gen.writeNumber(packedId);
+		} else {
+			writeString(CODE, fullCode == null ? null : code(fullCode), gen, writeNull);
+		}
+		if (Boolean.TRUE.equals(provider.getAttribute(ATTR_OMIT_MESSAGE))) {
+			return;
+		}
+		String message = response.getMessage();
+		if (message != null) {
+			gen.writeFieldName(MESSAGE);
+			gen.writeString(message);
+		} else if (writeNull) {
+			gen.writeFieldName(MESSAGE);
+			gen.writeNull();
+		}
+	}
+
+	/**
+	 * 输出数值字段
+	 *
+	 * @param name      字段名
+	 * @param value     字段值
+	 * @param gen       JSON 生成器
+	 * @param writeNull 是否输出 null 值
+	 * @throws IOException 输出异常
+	 */
+	public static void writeNumber(SerializedString name, Number value, JsonGenerator gen, boolean writeNull) throws IOException {
+		if (value == null) {
+			if (writeNull) {
+				gen.writeFieldName(name);
+				gen.writeNull();
+			}
+			return;
+		}
+		gen.writeFieldName(name);
+		if (value instanceof Long) {
+			gen.writeNumber(value.longValue());
+		} else {
+			gen.writeNumber(value.intValue());
+		}
+	}
+
+	/**
+	 * 输出任意对象字段，交由默认的序列化器处理
+	 *
+	 * @param name      字段名
+	 * @param value     字段值
+	 * @param gen       JSON 生成器
+	 * @param provider  序列化上下文
+	 * @param writeNull 是否输出 null 值
+	 * @throws IOException 输出异常
+	 */
+	public static void writeValue(SerializedString name, Object value, JsonGenerator gen, SerializerProvider provider,
+								  boolean writeNull) throws IOException {
+		if (value == null && !writeNull) {
+			return;
+		}
+		gen.writeFieldName(name);
+		provider.defaultSerializeValue(value, gen);
+	}
+
+	/**
+	 * 是否输出 null 值，与 ObjectMapper 全局的 Include 配置保持一致
+	 *
+	 * @param provider 序列化上下文
+	 * @param type     报文类型
+	 * @return 是否输出 null 值
+	 */
+	public static boolean writeNull(SerializerProvider provider, Class<?> type) {
+		return writeNull(provider.getConfig(), type);
+	}
+
+	/**
+	 * 是否输出 null 值，与 ObjectMapper 全局的 Include 配置保持一致
+	 *
+	 * @param config 序列化配置
+	 * @param type   报文类型
+	 * @return 是否输出 null 值
+	 */
+	public static boolean writeNull(SerializationConfig config, Class<?> type) {
+		JsonInclude.Include include = config.getDefaultPropertyInclusion(type).getValueInclusion();
+		return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS;
+	}
+
+	private static void writeString(SerializedString name, SerializedString value, JsonGenerator gen, boolean writeNull) throws IOException {
+		if (value == null) {
+			if (writeNull) {
+				gen.writeFieldName(name);
+				gen.writeNull();
+			}
+			return;
+		}
+		gen.writeFieldName(name);
+		gen.writeString(value);
+	}
+}
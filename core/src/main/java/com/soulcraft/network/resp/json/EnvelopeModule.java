@@ -0,0 +1,76 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.deser.Deserializers;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.soulcraft.network.resp.R;
+import com.soulcraft.network.resp.batch.BatchR;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.page.QP;
+
+/**
+ * <p>
+ * 返回报文的 Jackson 模块，为 {@link R}、{@link ErrorResponse}、{@link QP}、{@link BatchR} 注册专用的序列化器，
+ * 并为 {@link BatchR} 注册反序列化器
+ * </p>
+ * <p>
+ * Spring Boot 应用中将其声明为 Bean 即可自动注册到 ObjectMapper；
+ * 只匹配上述类型本身，子类仍使用默认的 Bean 序列化器，以免丢失子类中的字段。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class EnvelopeModule extends SimpleModule {
+	private static final RSerializer R_SERIALIZER = new RSerializer();
+	private static final ErrorResponseSerializer ERROR_RESPONSE_SERIALIZER = new ErrorResponseSerializer();
+	private static final QPSerializer QP_SERIALIZER = new QPSerializer();
+	private static final BatchRSerializer BATCH_R_SERIALIZER = new BatchRSerializer();
+
+	public EnvelopeModule() {
+		super(EnvelopeModule.class.getSimpleName());
+	}
+
+	@Override
+	public void setupModule(SetupContext context) {
+		super.setupModule(context);
+		context.addSerializers(new EnvelopeSerializers());
+		context.addDeserializers(new EnvelopeDeserializers());
+	}
+
+	private static final class EnvelopeSerializers extends Serializers.Base {
+		@Override
+		public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+			Class<?> raw = type.getRawClass();
+			if (raw == R.class) {
+				return R_SERIALIZER;
+			}
+			if (raw == ErrorResponse.class) {
+				return ERROR_RESPONSE_SERIALIZER;
+			}
+			if (raw == QP.class) {
+				return QP_SERIALIZER;
+			}
+			if (raw == BatchR.class) {
+				return BATCH_R_SERIALIZER;
+			}
+			return null;
+		}
+	}
+
+	private static final class EnvelopeDeserializers extends Deserializers.Base {
+		@Override
+		public JsonDeserializer<?> findBeanDeserializer(JavaType type, DeserializationConfig config, BeanDescription beanDesc) {
+			if (type.getRawClass() == BatchR.class) {
+				return new BatchRDeserializer(type.containedType(0));
+			}
+			return null;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.error.FieldErrorDetail;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * <p>
+ * {@link ErrorResponse} 序列化器
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class ErrorResponseSerializer extends AbstractEnvelopeSerializer<ErrorResponse> {
+
+	public ErrorResponseSerializer() {
+		super(ErrorResponse.class);
+	}
+
+	@Override
+	protected void writeFields(ErrorResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		EnvelopeFields.writeCodeAndMessage(value, gen, provider, EnvelopeFields.writeNull(provider, ErrorResponse.class));
+		if (value.getRetryable() != null) {
+			gen.writeFieldName(EnvelopeFields.RETRYABLE);
+			gen.writeBoolean(value.getRetryable());
+		}
+		EnvelopeFields.writeNumber(EnvelopeFields.RETRY_AFTER, value.getRetryAfter(), gen, false);
+		if (value.getErrors() != null) {
+			EnvelopeFields.writeValue(EnvelopeFields.ERRORS, value.getErrors(), gen, provider, false);
+		}
+		if (value.getFieldErrors() != null) {
+			writeFieldErrors(value.getFieldErrors(), gen);
+		}
+		EnvelopeFields.writeNumber(EnvelopeFields.FIELD_ERRORS_OMITTED, value.getFieldErrorsOmitted(), gen, false);
+	}
+
+	/**
+	 * 直接输出参数校验失败明细，不经过默认的 Bean 序列化器，null 字段不输出
+	 */
+	private static void writeFieldErrors(List<FieldErrorDetail> fieldErrors, JsonGenerator gen) throws IOException {
+		gen.writeFieldName(EnvelopeFields.FIELD_ERRORS);
+		gen.writeStartArray();
+		for (FieldErrorDetail fieldError : fieldErrors) {
+			gen.writeStartObject();
+			if (fieldError.getField() != null) {
+				gen.writeFieldName(EnvelopeFields.FIELD);
+				gen.writeString(fieldError.getField());
+			}
+			if (fieldError.getCode() != null) {
+				gen.writeFieldName(EnvelopeFields.CODE);
+				gen.writeString(fieldError.getCode());
+			}
+			if (fieldError.getMessage() != null) {
+				gen.writeFieldName(EnvelopeFields.MESSAGE);
+				gen.writeString(fieldError.getMessage());
+			}
+			gen.writeEndObject();
+		}
+		gen.writeEndArray();
+	}
+}
@@ -0,0 +1,94 @@
+package com.soulcraft.network.resp.json;
+
+import java.util.Arrays;
+import java.util.TreeSet;
+
+/**
+ * <p>
+ * 规范化后的字段集合，字段去重并排序，因此 "b,a" 与 "a, b" 视为同一字段集合
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class Fieldset {
+	/**
+	 * 字段数量上限，超出部分被忽略，避免客户端构造过大的字段集合
+	 */
+	public static final int MAX_FIELDS = 64;
+	/**
+	 * 字段名长度上限，超出的字段名被忽略
+	 */
+	public static final int MAX_FIELD_LENGTH = 64;
+
+	private final String[] fields;
+	private final String key;
+
+	private Fieldset(String[] fields) {
+		this.fields = fields;
+		this.key = String.join(",", fields);
+	}
+
+	/**
+	 * 解析以逗号分隔的字段列表
+	 *
+	 * @param spec 字段列表，如 "id,name"
+	 * @return 字段集合，没有有效字段时返回 null
+	 */
+	public static Fieldset parse(String spec) {
+		if (spec == null || spec.isEmpty()) {
+			return null;
+		}
+		return of(spec.split(","));
+	}
+
+	/**
+	 * 创建字段集合
+	 *
+	 * @param fields 字段列表
+	 * @return 字段集合，没有有效字段时返回 null
+	 */
+	public static Fieldset of(String... fields) {
+		TreeSet<String> normalized = new TreeSet<>();
+		for (String field : fields) {
+			String name = field.trim();
+			if (!name.isEmpty() && name.length() <= MAX_FIELD_LENGTH) {
+				normalized.add(name);
+				if (normalized.size() == MAX_FIELDS) {
+					break;
+				}
+			}
+		}
+		return normalized.isEmpty() ? null : new Fieldset(normalized.toArray(new String[0]));
+	}
+
+	/**
+	 * @param field 字段名
+	 * @return 是否包含指定字段
+	 */
+	public boolean contains(String field) {
+		return Arrays.binarySearch(fields, field) >= 0;
+	}
+
+	/**
+	 * @return 字段数量
+	 */
+	public int size() {
+		return fields.length;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o || o instanceof Fieldset && key.equals(((Fieldset) o).key);
+	}
+
+	@Override
+	public int hashCode() {
+		return key.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return key;
+	}
+}
@@ -0,0 +1,41 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import lombok.Getter;
+
+/**
+ * <p>
+ * 按字段集合投影的值，序列化时只输出字段集合中的顶层字段
+ * </p>
+ * <p>
+ * 值为 {@link com.soulcraft.network.resp.page.QP}、集合、数组时投影其中的每个元素，值为 Map 时投影其中的键。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Getter
+@JsonSerialize(using = ProjectedValueSerializer.class)
+public final class ProjectedValue {
+	private final Object value;
+	private final Fieldset fieldset;
+
+	private ProjectedValue(Object value, Fieldset fieldset) {
+		this.value = value;
+		this.fieldset = fieldset;
+	}
+
+	/**
+	 * 创建投影值
+	 *
+	 * @param value    原始值
+	 * @param fieldset 字段集合
+	 * @return 原始值为 null 或字段集合为 null 时返回原始值，否则返回投影值
+	 */
+	public static Object of(Object value, Fieldset fieldset) {
+		if (value == null || fieldset == null || value instanceof ProjectedValue) {
+			return value;
+		}
+		return new ProjectedValue(value, fieldset);
+	}
+}
@@ -0,0 +1,156 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.soulcraft.network.resp.page.QP;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>
+ * {@link ProjectedValue} 序列化器
+ * </p>
+ * <p>
+ * 每次序列化中每个类型的投影只编译一次：从该类型的 Bean 序列化器中取出字段集合中各属性的 BeanPropertyWriter，
+ * 之后的同类型元素直接使用，只输出这些属性，不会访问其他属性。属性名、属性上的序列化器及 &#64;JsonFormat、&#64;JsonInclude 等注解
+ * 与不投影时完全一致，未知字段被忽略；类型不使用 Bean 序列化器时不投影，按其序列化器原样输出。
+ * 投影不跨请求缓存，字段集合由客户端指定，缓存会被任意字段组合占满；类型的序列化器由 ObjectMapper 缓存。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class ProjectedValueSerializer extends StdSerializer<ProjectedValue> {
+	public ProjectedValueSerializer() {
+		super(ProjectedValue.class);
+	}
+
+	@Override
+	public void serialize(ProjectedValue value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		writeProjected(value.getValue(), new Projections(value.getFieldset()), gen, provider);
+	}
+
+	private void writeProjected(Object value, Projections projections, JsonGenerator gen, SerializerProvider provider)
+			throws IOException {
+		if (value == null) {
+			provider.defaultSerializeNull(gen);
+		} else if (value instanceof QP) {
+			QP<?> page = (QP<?>) value;
+			boolean writeNull = EnvelopeFields.writeNull(provider, QP.class);
+			gen.writeStartObject(value);
+			QPSerializer.writePageInfo(page, gen, writeNull);
+			if (page.getList() != null || writeNull) {
+				gen.writeFieldName(EnvelopeFields.LIST);
+				writeProjected(page.getList(), projections, gen, provider);
+			}
+			gen.writeEndObject();
+		} else if (value instanceof Iterable) {
+			gen.writeStartArray();
+			for (Object item : (Iterable<?>) value) {
+				writeProjected(item, projections, gen, provider);
+			}
+			gen.writeEndArray();
+		} else if (value.getClass().isArray() && !value.getClass().getComponentType().isPrimitive()) {
+			int length = Array.getLength(value);
+			gen.writeStartArray(value, length);
+			for (int i = 0; i < length; i++) {
+				writeProjected(Array.get(value, i), projections, gen, provider);
+			}
+			gen.writeEndArray();
+		} else if (value instanceof Map) {
+			gen.writeStartObject(value);
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				Object key = entry.getKey();
+				if (key != null && projections.fieldset.contains(key.toString())) {
+					gen.writeFieldName(key.toString());
+					provider.defaultSerializeValue(entry.getValue(), gen);
+				}
+			}
+			gen.writeEndObject();
+		} else if (isScalar(value)) {
+			provider.defaultSerializeValue(value, gen);
+		} else {
+			writeBean(value, projections.get(value.getClass(), provider), gen, provider);
+		}
+	}
+
+	private void writeBean(Object bean, Projection projection, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		if (projection.writers == null) {
+			projection.serializer.serialize(bean, gen, provider);
+			return;
+		}
+		gen.writeStartObject(bean);
+		for (BeanPropertyWriter writer : projection.writers) {
+			try {
+				writer.serializeAsField(bean, gen, provider);
+			} catch (Exception e) {
+				wrapAndThrow(provider, e, bean, writer.getName());
+			}
+		}
+		gen.writeEndObject();
+	}
+
+	private static boolean isScalar(Object value) {
+		return value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+				|| value instanceof Character || value instanceof Enum || value.getClass().isArray();
+	}
+
+	/**
+	 * 一次序列化中各类型的投影
+	 */
+	private static final class Projections {
+		private final Fieldset fieldset;
+		private final Map<Class<?>, Projection> byType = new HashMap<>();
+
+		private Projections(Fieldset fieldset) {
+			this.fieldset = fieldset;
+		}
+
+		private Projection get(Class<?> type, SerializerProvider provider) throws IOException {
+			Projection projection = byType.get(type);
+			if (projection == null) {
+				projection = Projection.compile(provider.findValueSerializer(type), fieldset);
+				byType.put(type, projection);
+			}
+			return projection;
+		}
+	}
+
+	/**
+	 * 编译后的投影，类型不使用 Bean 序列化器时 writers 为 null
+	 */
+	private static final class Projection {
+		private final JsonSerializer<Object> serializer;
+		private final BeanPropertyWriter[] writers;
+
+		private Projection(JsonSerializer<Object> serializer, BeanPropertyWriter[] writers) {
+			this.serializer = serializer;
+			this.writers = writers;
+		}
+
+		private static Projection compile(JsonSerializer<Object> serializer, Fieldset fieldset) {
+			if (!(serializer instanceof BeanSerializerBase)) {
+				return new Projection(serializer, null);
+			}
+			List<BeanPropertyWriter> writers = new ArrayList<>(fieldset.size());
+			for (Iterator<PropertyWriter> it = serializer.properties(); it.hasNext(); ) {
+				PropertyWriter property = it.next();
+				if (property instanceof BeanPropertyWriter && fieldset.contains(property.getName())) {
+					writers.add((BeanPropertyWriter) property);
+				}
+			}
+			return new Projection(serializer, writers.toArray(new BeanPropertyWriter[0]));
+		}
+	}
+}
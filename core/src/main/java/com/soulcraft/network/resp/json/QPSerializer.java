@@ -0,0 +1,44 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.soulcraft.network.resp.page.QP;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * {@link QP} 序列化器，list 交由默认的序列化器处理
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class QPSerializer extends AbstractEnvelopeSerializer<QP<?>> {
+
+	public QPSerializer() {
+		super(QP.class);
+	}
+
+	@Override
+	protected void writeFields(QP<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		boolean writeNull = EnvelopeFields.writeNull(provider, QP.class);
+		writePageInfo(value, gen, writeNull);
+		EnvelopeFields.writeValue(EnvelopeFields.LIST, value.getList(), gen, provider, writeNull);
+	}
+
+	/**
+	 * 输出分页信息
+	 *
+	 * @param value     分页结果
+	 * @param gen       JSON 生成器
+	 * @param writeNull 是否输出 null 值
+	 * @throws IOException 输出异常
+	 */
+	public static void writePageInfo(QP<?> value, JsonGenerator gen, boolean writeNull) throws IOException {
+		EnvelopeFields.writeNumber(EnvelopeFields.PAGE_NUM, value.getPageNum(), gen, writeNull);
+		EnvelopeFields.writeNumber(EnvelopeFields.PAGE_SIZE, value.getPageSize(), gen, writeNull);
+		EnvelopeFields.writeNumber(EnvelopeFields.TOTAL_PAGE, value.getTotalPage(), gen, writeNull);
+		EnvelopeFields.writeNumber(EnvelopeFields.TOTAL, value.getTotal(), gen, writeNull);
+	}
+}
@@ -0,0 +1,29 @@
+package com.soulcraft.network.resp.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.soulcraft.network.resp.R;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * {@link R} 序列化器，data 交由默认的序列化器处理
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class RSerializer extends AbstractEnvelopeSerializer<R<?>> {
+
+	public RSerializer() {
+		super(R.class);
+	}
+
+	@Override
+	protected void writeFields(R<?> value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+		boolean writeNull = EnvelopeFields.writeNull(provider, R.class);
+		EnvelopeFields.writeCodeAndMessage(value, gen, provider, writeNull);
+		EnvelopeFields.writeValue(EnvelopeFields.DATA, value.getData(), gen, provider, writeNull);
+	}
+}
@@ -0,0 +1,34 @@
+package com.soulcraft.network.resp.page;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * 惰性转换列表视图，每次访问元素时才调用转换函数，不会创建中间列表
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+final class MappedList<S, T> extends AbstractList<T> implements RandomAccess {
+	private final List<S> source;
+	private final Function<? super S, ? extends T> mapper;
+
+	MappedList(List<S> source, Function<? super S, ? extends T> mapper) {
+		this.source = source;
+		this.mapper = mapper;
+	}
+
+	@Override
+	public T get(int index) {
+		return mapper.apply(source.get(index));
+	}
+
+	@Override
+	public int size() {
+		return source.size();
+	}
+}
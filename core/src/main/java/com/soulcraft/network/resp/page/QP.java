@@ -0,0 +1,172 @@
+package com.soulcraft.network.resp.page;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * 分页数据封装类
+ * <p>
+ * MyBatis Plus 分页结果的转换参见 mybatis-plus 模块的 {@code com.soulcraft.network.mybatisplus.MybatisPlusPages}
+ * </p>
+ *
+ * @author scott
+ * @since 2022年03月10日
+ */
+@Data
+public class QP<T> {
+	/**
+	 * 并行转换的最小条目数，低于此数量时直接在当前线程转换
+	 */
+	public static final int PARALLEL_THRESHOLD = 1024;
+	/**
+	 * 并行转换时每个子任务处理的最小条目数
+	 */
+	private static final int PARALLEL_MIN_CHUNK = 128;
+
+	/**
+	 * 当前页
+	 */
+	private Integer pageNum;
+	/**
+	 * 页面大小
+	 */
+	private Integer pageSize;
+	/**
+	 * 总页数
+	 */
+	private Integer totalPage;
+	/**
+	 * 总条目数量
+	 */
+	private Long total;
+	/**
+	 * 条目列表
+	 */
+	private List<T> list;
+
+	/**
+	 * <pre>
+	 *     惰性转换条目类型，保留分页信息
+	 *     返回的列表为原列表的只读视图，元素在被访问（如序列化）时才进行转换，不会创建中间列表
+	 * </pre>
+	 *
+	 * @param mapper 条目转换函数
+	 * @param <R>    转换后的条目类型
+	 * @return 转换后的分页结果
+	 */
+	public <R> QP<R> map(Function<? super T, ? extends R> mapper) {
+		QP<R> result = copyPageInfo();
+		if (list != null) {
+			List<T> source = list instanceof RandomAccess ? list : new ArrayList<>(list);
+			result.setList(new MappedList<>(source, mapper));
+		}
+		return result;
+	}
+
+	/**
+	 * <pre>
+	 *     立即转换条目类型，保留分页信息
+	 *     条目数量不低于 {@link #PARALLEL_THRESHOLD} 时，使用有界的 ForkJoin 线程池并行转换，
+	 *     因此转换函数必须是线程安全的，且不能依赖当前线程的上下文（如 ThreadLocal）
+	 * </pre>
+	 *
+	 * @param mapper 条目转换函数
+	 * @param <R>    转换后的条目类型
+	 * @return 转换后的分页结果
+	 */
+	public <R> QP<R> parallelMap(Function<? super T, ? extends R> mapper) {
+		QP<R> result = copyPageInfo();
+		if (list == null) {
+			return result;
+		}
+		int size = list.size();
+		if (size < PARALLEL_THRESHOLD) {
+			List<R> target = new ArrayList<>(size);
+			for (T item : list) {
+				target.add(mapper.apply(item));
+			}
+			result.setList(target);
+			return result;
+		}
+		List<T> source = list instanceof RandomAccess ? list : new ArrayList<>(list);
+		Object[] target = new Object[size];
+		ForkJoinPool pool = MappingPoolHolder.POOL;
+		int chunk = Math.max(PARALLEL_MIN_CHUNK, size / (pool.getParallelism() * 4));
+		pool.invoke(new MapTask<>(source, target, mapper, 0, size, chunk));
+		@SuppressWarnings("unchecked")
+		List<R> mapped = (List<R>) Arrays.asList(target);
+		result.setList(mapped);
+		return result;
+	}
+
+	/**
+	 * 复制分页信息
+	 *
+	 * @param <R> 条目类型
+	 * @return 仅包含分页信息的分页结果
+	 */
+	private <R> QP<R> copyPageInfo() {
+		QP<R> result = new QP<>();
+		result.setPageNum(pageNum);
+		result.setPageSize(pageSize);
+		result.setTotalPage(totalPage);
+		result.setTotal(total);
+		return result;
+	}
+
+	/**
+	 * 分段转换任务，将 source[from, to) 的转换结果写入 target 的对应位置
+	 */
+	private static final class MapTask<S, R> extends RecursiveAction {
+		private final List<S> source;
+		private final Object[] target;
+		private final Function<? super S, ? extends R> mapper;
+		private final int from;
+		private final int to;
+		private final int chunk;
+
+		MapTask(List<S> source, Object[] target, Function<? super S, ? extends R> mapper, int from, int to, int chunk) {
+			this.source = source;
+			this.target = target;
+			this.mapper = mapper;
+			this.from = from;
+			this.to = to;
+			this.chunk = chunk;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= chunk) {
+				for (int i = from; i < to; i++) {
+					target[i] = mapper.apply(source.get(i));
+				}
+				return;
+			}
+			int middle = (from + to) >>> 1;
+			invokeAll(new MapTask<>(source, target, mapper, from, middle, chunk),
+					new MapTask<>(source, target, mapper, middle, to, chunk));
+		}
+	}
+
+	/**
+	 * 并行转换线程池，首次并行转换时才创建，线程数不超过 8
+	 */
+	private static final class MappingPoolHolder {
+		private static final ForkJoinPool POOL = new ForkJoinPool(
+				Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 8)),
+				pool -> {
+					ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+					thread.setName("qp-map-" + thread.getPoolIndex());
+					return thread;
+				},
+				null, false);
+	}
+}
@@ -0,0 +1,26 @@
+package com.soulcraft.network.util;
+
+import java.util.Locale;
+
+/**
+ * <p>
+ * 国际化消息查找，{@link MessageUtils} 通过它获取消息，不直接依赖 Spring
+ * </p>
+ * <p>
+ * 内置实现为直接读取消息文件的 {@link ResourceBundleMessageResolver}，及 spring-mvc 模块中基于 MessageSource 的 SpringMessageResolver
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public interface MessageResolver {
+	/**
+	 * 获取国际化消息
+	 *
+	 * @param code   消息Key
+	 * @param args   消息参数，可以为 null
+	 * @param locale 语言环境
+	 * @return 国际化后的消息，消息Key不存在时返回 null
+	 */
+	String getMessage(String code, Object[] args, Locale locale);
+}
@@ -0,0 +1,94 @@
+package com.soulcraft.network.util;
+
+import com.soulcraft.network.resp.IResponseEnum;
+import lombok.extern.java.Log;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * 国际化工具类
+ * </p>
+ * <p>
+ * 消息由 {@link MessageResolver} 查找，Spring 环境下由 spring-mvc 模块的 SpringApplicationContextUtil 自动设置；
+ * 第一次查找时仍未设置，则通过 CAS 安装读取内置消息文件的 {@link ResourceBundleMessageResolver}，
+ * 因此在 Spring 启动前、命令行工具及单元测试中也能得到同样的消息。
+ * </p>
+ *
+ * @author Scott
+ * @since 2022-03-10
+ */
+@Log
+public class MessageUtils {
+
+	/**
+	 * 内置消息文件的 basename
+	 */
+	public static final String DEFAULT_BASENAME = "messages-network-and-error-handler";
+	private static final String MESSAGE_KEY_ERROR_MESSAGES = "app.ErrorMessages";
+	private static final AtomicReference<MessageResolver> MESSAGE_RESOLVER = new AtomicReference<>();
+
+	/**
+	 * @return 当前的消息查找，未设置时安装并返回默认的消息查找
+	 */
+	public static MessageResolver getMessageResolver() {
+		MessageResolver resolver = MESSAGE_RESOLVER.get();
+		if (resolver != null) {
+			return resolver;
+		}
+		// 并发时可能创建多个默认实例，只有一个会被安装
+		MESSAGE_RESOLVER.compareAndSet(null, new ResourceBundleMessageResolver(DEFAULT_BASENAME));
+		return MESSAGE_RESOLVER.get();
+	}
+
+	/**
+	 * 设置消息查找，覆盖已安装的默认消息查找
+	 *
+	 * @param resolver 消息查找，null 表示恢复为默认的消息查找
+	 */
+	public static void setMessageResolver(MessageResolver resolver) {
+		MESSAGE_RESOLVER.set(resolver);
+	}
+
+	/**
+	 * 获取国际化消息
+	 *
+	 * @param code 消息Key
+	 * @param args 消息参数
+	 * @return 国际化后的消息
+	 */
+	public static String getMessage(String code, Object... args) {
+		String message = getMessageResolver().getMessage(code, args, Locale.getDefault());
+		if (message == null) {
+			log.warning("message key " + code + " not found");
+			return code;
+		}
+		if (message.isEmpty()) {
+			return code;
+		}
+		return message;
+	}
+
+	/**
+	 * 获取国际化消息
+	 *
+	 * @param messageCode 消息Key
+	 * @param args        消息参数
+	 * @return 国际化后的消息
+	 */
+	public static String getResponseMessage(IResponseEnum messageCode, Object... args) {
+		return getMessage(getResponseMessageKey(messageCode), args);
+	}
+
+	/**
+	 * 返回信息的消息Key
+	 *
+	 * @param messageCode 返回信息
+	 * @return 消息Key
+	 */
+	public static String getResponseMessageKey(IResponseEnum messageCode) {
+		return MESSAGE_KEY_ERROR_MESSAGES + "." + messageCode;
+	}
+
+}
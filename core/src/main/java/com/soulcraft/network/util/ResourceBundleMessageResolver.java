@@ -0,0 +1,85 @@
+package com.soulcraft.network.util;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 直接读取 {@link ResourceBundle} 的消息查找，不依赖 Spring，用于命令行工具、批处理及单元测试
+ * </p>
+ * <p>
+ * 与 Spring 的 ResourceBundleMessageSource 行为一致：多个 basename 按顺序查找，找不到语言环境时回退到系统语言环境，
+ * 没有消息参数时原样返回消息，有消息参数时使用 {@link MessageFormat} 格式化。
+ * 每个语言环境的 ResourceBundle 列表及编译后的 MessageFormat 都会缓存。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class ResourceBundleMessageResolver implements MessageResolver {
+	private final String[] basenames;
+	private final ClassLoader classLoader;
+	private final Map<Locale, List<ResourceBundle>> bundles = new ConcurrentHashMap<>();
+	private final Map<Locale, Map<String, MessageFormat>> formats = new ConcurrentHashMap<>();
+
+	/**
+	 * @param basenames 消息文件的 basename，如 messages-network-and-error-handler，靠前的优先
+	 */
+	public ResourceBundleMessageResolver(String... basenames) {
+		this(ResourceBundleMessageResolver.class.getClassLoader(), basenames);
+	}
+
+	/**
+	 * @param classLoader 加载消息文件的类加载器
+	 * @param basenames   消息文件的 basename，靠前的优先
+	 */
+	public ResourceBundleMessageResolver(ClassLoader classLoader, String... basenames) {
+		if (basenames.length == 0) {
+			throw new IllegalArgumentException("basenames must not be empty");
+		}
+		this.basenames = basenames.clone();
+		this.classLoader = classLoader;
+	}
+
+	@Override
+	public String getMessage(String code, Object[] args, Locale locale) {
+		for (ResourceBundle bundle : bundles.computeIfAbsent(locale, this::loadBundles)) {
+			if (!bundle.containsKey(code)) {
+				continue;
+			}
+			String message = bundle.getString(code);
+			if (args == null || args.length == 0) {
+				return message;
+			}
+			MessageFormat format = formats.computeIfAbsent(locale, l -> new ConcurrentHashMap<>())
+					.computeIfAbsent(code, c -> new MessageFormat(message, locale));
+			// MessageFormat 不是线程安全的
+			synchronized (format) {
+				return format.format(args);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * 加载语言环境下的所有消息文件，不存在的 basename 忽略
+	 */
+	private List<ResourceBundle> loadBundles(Locale locale) {
+		List<ResourceBundle> loaded = new ArrayList<>(basenames.length);
+		for (String basename : basenames) {
+			try {
+				loaded.add(ResourceBundle.getBundle(basename, locale, classLoader));
+			} catch (MissingResourceException e) {
+				// 该 basename 没有任何消息文件
+			}
+		}
+		return Collections.unmodifiableList(loaded);
+	}
+}
@@ -0,0 +1,84 @@
+package com.soulcraft.network.footprint;
+
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.baomidou.mybatisplus.core.metadata.OrderItem;
+import com.soulcraft.network.mybatisplus.MybatisPlusPages;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ * mybatis-plus 模块的测量：转换分页结果
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class MybatisPlusFootprint {
+	private MybatisPlusFootprint() {
+	}
+
+	public static void main(String[] args) {
+		IPage<String> page = new FixedPage(Arrays.asList("a", "b", "c"));
+		Footprint.measure("mybatis-plus", () -> MybatisPlusPages.restPage(page).map(String::length));
+	}
+
+	/**
+	 * 固定内容的分页结果，mybatis-plus-core 中没有 IPage 的实现
+	 */
+	private static final class FixedPage implements IPage<String> {
+		private List<String> records;
+
+		private FixedPage(List<String> records) {
+			this.records = records;
+		}
+
+		@Override
+		public List<OrderItem> orders() {
+			return Collections.emptyList();
+		}
+
+		@Override
+		public List<String> getRecords() {
+			return records;
+		}
+
+		@Override
+		public IPage<String> setRecords(List<String> records) {
+			this.records = records;
+			return this;
+		}
+
+		@Override
+		public long getTotal() {
+			return 23L;
+		}
+
+		@Override
+		public IPage<String> setTotal(long total) {
+			return this;
+		}
+
+		@Override
+		public long getSize() {
+			return records.size();
+		}
+
+		@Override
+		public IPage<String> setSize(long size) {
+			return this;
+		}
+
+		@Override
+		public long getCurrent() {
+			return 1L;
+		}
+
+		@Override
+		public IPage<String> setCurrent(long current) {
+			return this;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.soulcraft.network.mybatisplus;
+
+import com.baomidou.mybatisplus.core.metadata.IPage;
+import com.soulcraft.network.resp.page.QP;
+
+/**
+ * <p>
+ * MyBatis Plus 分页结果的转换
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class MybatisPlusPages {
+	private MybatisPlusPages() {
+	}
+
+	/**
+	 * <pre>
+	 *     将MyBatis Plus 分页结果转化为通用结果
+	 * </pre>
+	 *
+	 * @param pageResult 分页结果
+	 * @param <T>        条目类型
+	 * @return 转换后的分页结果
+	 * @throws ArithmeticException 页码、页面大小或总页数超出 int 的范围
+	 */
+	public static <T> QP<T> restPage(IPage<T> pageResult) {
+		QP<T> result = new QP<>();
+		result.setPageNum(Math.toIntExact(pageResult.getCurrent()));
+		result.setPageSize(Math.toIntExact(pageResult.getSize()));
+		result.setTotal(pageResult.getTotal());
+		if (pageResult.getTotal() % pageResult.getSize() == 0) {
+			result.setTotalPage(Math.toIntExact(pageResult.getTotal() / pageResult.getSize()));
+		} else {
+			result.setTotalPage(Math.toIntExact(pageResult.getTotal() / pageResult.getSize() + 1));
+		}
+		result.setList(pageResult.getRecords());
+		return result;
+	}
+}
@@ -0,0 +1,130 @@
+package com.soulcraft.network.sample;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soulcraft.network.exception.BaseException;
+import com.soulcraft.network.exception.BusinessException;
+import com.soulcraft.network.exception.CompositeBusinessException;
+import com.soulcraft.network.exception.DeadlineExceededException;
+import com.soulcraft.network.handler.UnifiedExceptionHandler;
+import com.soulcraft.network.resp.error.DbResponseEnum;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import com.soulcraft.network.resp.json.EnvelopeModule;
+import com.soulcraft.network.util.MessageUtils;
+import com.soulcraft.network.util.SpringMessageResolver;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.core.MethodParameter;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * native image 示例程序，逐个调用 {@link UnifiedExceptionHandler} 的处理路径，
+ * 检查 HTTP 状态码及序列化后的错误码，任一路径失败时以非零状态退出
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class NativeSample {
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new EnvelopeModule());
+	private static int failures;
+
+	private NativeSample() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		Locale.setDefault(Locale.US);
+		ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+		messageSource.setBasename("messages-network-and-error-handler");
+		messageSource.setDefaultEncoding("UTF-8");
+		messageSource.setFallbackToSystemLocale(false);
+		MessageUtils.setMessageResolver(new SpringMessageResolver(messageSource));
+
+		UnifiedExceptionHandler handler = new UnifiedExceptionHandler();
+		check("business", 404, "COM-DB-604", () ->
+				handler.handleBusinessException((BusinessException) DbResponseEnum.RECORD_NOT_FOUND.newException("user")));
+		check("composite", 500, "COM-SRV-802", () -> handler.handleCompositeBusinessException(
+				CompositeBusinessException.of(Arrays.asList(DbResponseEnum.RECORD_IN_USE.newException(), new IllegalStateException()))));
+		check("deadline", 504, "COM-HTTP-504", () -> handler.handleDeadlineExceededException(
+				(DeadlineExceededException) HttpStatusEnum.GATEWAY_TIMEOUT.newDeadlineExceededException()));
+		check("base", 403, "COM-HTTP-403", () -> handler.handleBaseException(new BaseException(HttpStatusEnum.FORBIDDEN)));
+		check("servlet", 404, "COM-SRVL-700", () ->
+				handler.handleServletException(new NoHandlerFoundException("GET", "/missing", new HttpHeaders())));
+		check("bind", 400, "COM-SRV-800", () -> handler.handleBindException(new BindException(bindingResult())));
+		check("valid", 400, "COM-SRV-800", () -> handler.handleValidException(methodArgumentNotValid()));
+		check("duplicate key", 409, "COM-DB-601", () -> handler.handleException(new DuplicateKeyException("duplicated")));
+		check("data access", 504, "COM-DB-609", () -> handler.handleException(new QueryTimeoutException("timed out")));
+		check("sql", 503, "COM-DB-610", () -> handler.handleException(new SQLException("refused", "08001")));
+		check("async wrapper", 404, "COM-DB-604", () ->
+				handler.handleAsyncWrapperException(new CompletionException(DbResponseEnum.RECORD_NOT_FOUND.newException("order"))));
+		check("generic", 500, "COM-HTTP-500", () -> handler.handleException(new IllegalStateException("unexpected")));
+		checkClientAbort(handler);
+
+		if (failures > 0) {
+			System.out.println(failures + " handler path(s) failed");
+			System.exit(1);
+		}
+		System.out.println("all handler paths passed");
+	}
+
+	/**
+	 * 供 {@link MethodArgumentNotValidException} 引用的方法，通过反射获取，需要注册反射信息
+	 */
+	@SuppressWarnings("unused")
+	public static void validate(Object query) {
+	}
+
+	private static MapBindingResult bindingResult() {
+		MapBindingResult bindingResult = new MapBindingResult(new HashMap<String, Object>(), "query");
+		bindingResult.rejectValue("pageNum", "Min", "must be greater than or equal to 1");
+		return bindingResult;
+	}
+
+	private static MethodArgumentNotValidException methodArgumentNotValid() {
+		try {
+			MethodParameter parameter = new MethodParameter(NativeSample.class.getMethod("validate", Object.class), 0);
+			return new MethodArgumentNotValidException(parameter, bindingResult());
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void checkClientAbort(UnifiedExceptionHandler handler) {
+		ResponseEntity<ErrorResponse> entity = handler.handleException(new IOException("Broken pipe"));
+		boolean passed = entity == null && handler.getClientAbortCount() == 1L;
+		report("client abort", passed, "count=" + handler.getClientAbortCount());
+	}
+
+	private static void check(String path, int status, String fullCode, Supplier<ResponseEntity<ErrorResponse>> handle) {
+		try {
+			ResponseEntity<ErrorResponse> entity = handle.get();
+			String body = OBJECT_MAPPER.writeValueAsString(entity.getBody());
+			boolean passed = entity.getStatusCodeValue() == status && body.contains("\"code\":\"" + fullCode + "\"");
+			report(path, passed, entity.getStatusCodeValue() + " " + body);
+		} catch (Exception | LinkageError e) {
+			report(path, false, e.toString());
+		}
+	}
+
+	private static void report(String path, boolean passed, String detail) {
+		if (!passed) {
+			failures++;
+		}
+		System.out.println((passed ? "ok    " : "FAIL  ") + path + ": " + detail);
+	}
+}
@@ -0,0 +1,40 @@
+package com.soulcraft.network.footprint;
+
+import com.soulcraft.network.handler.UnifiedExceptionHandler;
+import com.soulcraft.network.resp.error.CommonResponseEnum;
+import com.soulcraft.network.util.SpringApplicationContextUtil;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * <p>
+ * spring-mvc 模块的测量：全局错误处理器处理业务异常及未定义异常，消息来自 Spring MessageSource
+ * </p>
+ * <p>
+ * ApplicationContext 在测量之前创建，不计入第一次使用的耗时。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class SpringMvcFootprint {
+	private SpringMvcFootprint() {
+	}
+
+	public static void main(String[] args) {
+		StaticApplicationContext context = new StaticApplicationContext();
+		context.registerSingleton("messageSource", ResourceBundleMessageSource.class);
+		context.refresh();
+		ResourceBundleMessageSource messageSource = context.getBean("messageSource", ResourceBundleMessageSource.class);
+		messageSource.setBasenames("messages-network-and-error-handler");
+		messageSource.setDefaultEncoding("UTF-8");
+		new SpringApplicationContextUtil().setApplicationContext(context);
+
+		UnifiedExceptionHandler handler = new UnifiedExceptionHandler();
+		IllegalStateException unexpected = new IllegalStateException("footprint");
+		Footprint.measure("spring-mvc", () -> {
+			handler.handleBaseException(CommonResponseEnum.VALIDATE_FAILED.newException("id"));
+			handler.handleException(unexpected);
+		});
+	}
+}
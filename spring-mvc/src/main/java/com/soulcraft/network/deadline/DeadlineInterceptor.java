@@ -0,0 +1,97 @@
+package com.soulcraft.network.deadline;
+
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 请求截止时间拦截器
+ * </p>
+ * <p>
+ * 截止时间取请求头中客户端的剩余时限（毫秒）与 {@link RequestDeadline} 中较早者，
+ * 保存在 {@link DeadlineContext} 及请求属性 {@link #ATTR_DEADLINE} 中；请求到达时已到期则直接返回 504。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class DeadlineInterceptor implements AsyncHandlerInterceptor {
+	/**
+	 * 默认的时限请求头
+	 */
+	public static final String DEFAULT_HEADER = "X-Request-Timeout";
+	/**
+	 * 保存截止时间的请求属性
+	 */
+	public static final String ATTR_DEADLINE = Deadline.class.getName();
+
+	private final String header;
+	private final RouteDeadlines routeDeadlines = new RouteDeadlines();
+
+	public DeadlineInterceptor() {
+		this(DEFAULT_HEADER);
+	}
+
+	/**
+	 * @param header 时限请求头，值为剩余时限的毫秒数
+	 */
+	public DeadlineInterceptor(String header) {
+		this.header = header;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		Object existing = request.getAttribute(ATTR_DEADLINE);
+		Deadline deadline;
+		if (existing instanceof Deadline) {
+			// 异步请求再次分发
+			deadline = (Deadline) existing;
+		} else {
+			deadline = parse(request.getHeader(header));
+			long routeTimeout = routeDeadlines.timeout(handler);
+			if (routeTimeout >= 0) {
+				deadline = Deadline.after(routeTimeout, TimeUnit.MILLISECONDS).earlier(deadline);
+			}
+			if (deadline == null) {
+				return true;
+			}
+			request.setAttribute(ATTR_DEADLINE, deadline);
+		}
+		// 抛出异常时不会调用 afterCompletion，需要先检查再设置
+		HttpStatusEnum.GATEWAY_TIMEOUT.assertBefore(deadline);
+		DeadlineContext.set(deadline);
+		return true;
+	}
+
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		DeadlineContext.clear();
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		DeadlineContext.clear();
+	}
+
+	/**
+	 * 解析剩余时限的毫秒数
+	 *
+	 * @param value 请求头的值
+	 * @return 截止时间，请求头不存在或无效时返回 null
+	 */
+	static Deadline parse(String value) {
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+		try {
+			long millis = Long.parseLong(value.trim());
+			return millis < 0 ? null : Deadline.after(millis, TimeUnit.MILLISECONDS);
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+}
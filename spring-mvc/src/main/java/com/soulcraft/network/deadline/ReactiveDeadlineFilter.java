@@ -0,0 +1,95 @@
+package com.soulcraft.network.deadline;
+
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * WebFlux 请求截止时间过滤器，不使用 ThreadLocal
+ * </p>
+ * <p>
+ * 截止时间取请求头中客户端的剩余时限（毫秒）与 {@link RequestDeadline} 中较早者，
+ * 保存在 Reactor Context 及请求属性 {@link DeadlineInterceptor#ATTR_DEADLINE} 中；请求到达时已到期则直接返回 504。
+ * 过滤器在分发之前执行，需要通过构造参数中的 HandlerMapping（通常为 RequestMappingHandlerMapping）查找 Controller 方法
+ * 才能读取 {@link RequestDeadline}，没有 HandlerMapping 时只使用请求头中的时限。
+ * </p>
+ * <pre>
+ *     Mono.deferContextual(ctx -&gt; {
+ *         HttpStatusEnum.GATEWAY_TIMEOUT.assertBefore(ReactiveDeadlineFilter.deadline(ctx));
+ *         return repository.findById(id);
+ *     });
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class ReactiveDeadlineFilter implements WebFilter {
+	private final String header;
+	private final HandlerMapping handlerMapping;
+	private final RouteDeadlines routeDeadlines = new RouteDeadlines();
+
+	public ReactiveDeadlineFilter() {
+		this(DeadlineInterceptor.DEFAULT_HEADER);
+	}
+
+	/**
+	 * @param header 时限请求头，值为剩余时限的毫秒数
+	 */
+	public ReactiveDeadlineFilter(String header) {
+		this(header, null);
+	}
+
+	/**
+	 * @param header         时限请求头，值为剩余时限的毫秒数
+	 * @param handlerMapping 查找 Controller 方法以读取 {@link RequestDeadline}，为 null 时只使用请求头中的时限
+	 */
+	public ReactiveDeadlineFilter(String header, HandlerMapping handlerMapping) {
+		this.header = header;
+		this.handlerMapping = handlerMapping;
+	}
+
+	/**
+	 * 获取 Reactor Context 中的截止时间
+	 *
+	 * @param context Reactor Context
+	 * @return 截止时间，没有时返回 null
+	 */
+	public static Deadline deadline(ContextView context) {
+		return context.getOrDefault(Deadline.class, null);
+	}
+
+	@Override
+	public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+		Deadline deadline = DeadlineInterceptor.parse(exchange.getRequest().getHeaders().getFirst(header));
+		if (handlerMapping == null) {
+			return filter(exchange, chain, deadline);
+		}
+		// 找不到处理器等错误交由分发时处理
+		return handlerMapping.getHandler(exchange)
+				.map(routeDeadlines::timeout)
+				.onErrorResume(e -> Mono.empty())
+				.defaultIfEmpty(RouteDeadlines.NONE)
+				.flatMap(routeTimeout -> filter(exchange, chain, routeTimeout >= 0
+						? Deadline.after(routeTimeout, TimeUnit.MILLISECONDS).earlier(deadline) : deadline));
+	}
+
+	private static Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain, Deadline deadline) {
+		if (deadline == null) {
+			return chain.filter(exchange);
+		}
+		exchange.getAttributes().put(DeadlineInterceptor.ATTR_DEADLINE, deadline);
+		try {
+			HttpStatusEnum.GATEWAY_TIMEOUT.assertBefore(deadline);
+		} catch (RuntimeException e) {
+			return Mono.error(e);
+		}
+		return chain.filter(exchange).contextWrite(context -> context.put(Deadline.class, deadline));
+	}
+}
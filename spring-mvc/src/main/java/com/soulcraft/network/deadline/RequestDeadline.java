@@ -0,0 +1,25 @@
+package com.soulcraft.network.deadline;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * Controller 的处理时限，与请求头中客户端的时限取较早者，参见 {@link DeadlineInterceptor}、{@link ReactiveDeadlineFilter}
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface RequestDeadline {
+	/**
+	 * 处理时限，单位毫秒
+	 */
+	long value();
+}
@@ -0,0 +1,43 @@
+package com.soulcraft.network.deadline;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Controller 方法上 {@link RequestDeadline} 声明的处理时限，按方法缓存，Spring MVC 与 WebFlux 共用
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+final class RouteDeadlines {
+	/**
+	 * 没有声明处理时限
+	 */
+	static final long NONE = -1L;
+
+	private final Map<Method, Long> timeouts = new ConcurrentHashMap<>();
+
+	/**
+	 * @param handler 处理器
+	 * @return 处理时限，单位毫秒，没有声明时返回 {@link #NONE}
+	 */
+	long timeout(Object handler) {
+		if (!(handler instanceof HandlerMethod)) {
+			return NONE;
+		}
+		HandlerMethod handlerMethod = (HandlerMethod) handler;
+		return timeouts.computeIfAbsent(handlerMethod.getMethod(), m -> {
+			RequestDeadline requestDeadline = AnnotatedElementUtils.findMergedAnnotation(m, RequestDeadline.class);
+			if (requestDeadline == null) {
+				requestDeadline = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RequestDeadline.class);
+			}
+			return requestDeadline == null ? NONE : requestDeadline.value();
+		});
+	}
+}
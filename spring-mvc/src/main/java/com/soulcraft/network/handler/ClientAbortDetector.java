@@ -0,0 +1,88 @@
+package com.soulcraft.network.handler;
+
+import java.io.IOException;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * <p>
+ * 识别客户端断开连接导致的异常，如 Tomcat 的 ClientAbortException、Broken pipe 等
+ * </p>
+ * <p>
+ * 按异常类型识别，不依赖容器的类：异常类及其父类的类名与已知的断开连接异常比较，结果按异常类缓存。
+ * 只有 {@link IOException} 及 {@link SocketException} 本身无法按类型区分，才检查异常消息。
+ * 会沿异常链向上查找，以识别被 HttpMessageNotWritableException 等包装的情况。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class ClientAbortDetector {
+	/**
+	 * 查找异常链的最大深度
+	 */
+	private static final int MAX_CAUSE_DEPTH = 8;
+	private static final Set<String> CLIENT_ABORT_CLASSES = new HashSet<>(Arrays.asList(
+			"org.apache.catalina.connector.ClientAbortException",
+			"org.eclipse.jetty.io.EofException",
+			"reactor.netty.channel.AbortedException",
+			"org.springframework.web.context.request.async.AsyncRequestNotUsableException"
+	));
+	private static final String[] CLIENT_ABORT_MESSAGES = {
+			"broken pipe",
+			"connection reset by peer",
+			"an established connection was aborted",
+			"an existing connection was forcibly closed"
+	};
+	private static final ClassValue<Boolean> CLIENT_ABORT_TYPES = new ClassValue<Boolean>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			for (Class<?> current = type; current != null && current != Throwable.class; current = current.getSuperclass()) {
+				if (CLIENT_ABORT_CLASSES.contains(current.getName())) {
+					return Boolean.TRUE;
+				}
+			}
+			return Boolean.FALSE;
+		}
+	};
+
+	private ClientAbortDetector() {
+	}
+
+	/**
+	 * @param e 异常
+	 * @return 是否为客户端断开连接导致的异常
+	 */
+	public static boolean isClientAbort(Throwable e) {
+		Throwable current = e;
+		for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+			if (CLIENT_ABORT_TYPES.get(current.getClass()) || isClientAbortMessage(current)) {
+				return true;
+			}
+			Throwable cause = current.getCause();
+			current = cause == current ? null : cause;
+		}
+		return false;
+	}
+
+	private static boolean isClientAbortMessage(Throwable e) {
+		Class<?> type = e.getClass();
+		if (type != IOException.class && type != SocketException.class) {
+			return false;
+		}
+		String message = e.getMessage();
+		if (message == null) {
+			return false;
+		}
+		String lowerCase = message.toLowerCase(Locale.ROOT);
+		for (String clientAbortMessage : CLIENT_ABORT_MESSAGES) {
+			if (lowerCase.contains(clientAbortMessage)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
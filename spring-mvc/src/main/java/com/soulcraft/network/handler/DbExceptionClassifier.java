@@ -0,0 +1,247 @@
+package com.soulcraft.network.handler;
+
+import com.soulcraft.network.resp.error.DbResponseEnum;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
+import java.util.Locale;
+
+/**
+ * <p>
+ * 数据库异常分类，区分可以重试的暂时性错误与不可重试的错误
+ * </p>
+ * <p>
+ * 优先使用 Spring 的 DataAccessException 异常体系分类，无法分类时再根据异常链中 SQLException 的
+ * SQLState 及厂商错误码分类，均无法分类时返回 {@link DbResponseEnum#DB_OPERATION_ERROR}。
+ * </p>
+ * <p>
+ * 不同数据库的厂商错误码互相冲突，因此先按明确的 SQLState 分类；MySQL / MariaDB 的错误码表只用于
+ * 能确认来自 MySQL / MariaDB 的异常：异常类或抛出异常的类属于 MySQL / MariaDB 驱动，
+ * 或通过 {@link #setDatabaseProductName(String)} 配置了数据库产品名称。
+ * MySQL 的许多错误只有笼统的 SQLState（如重复键为 23000），所以错误码表在 SQLState 类别之前使用。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class DbExceptionClassifier {
+	/**
+	 * 查找异常链中 SQLException 的最大深度
+	 */
+	private static final int MAX_CAUSE_DEPTH = 8;
+	private static final String[] MYSQL_DRIVER_PACKAGES = {"com.mysql.", "org.mariadb."};
+
+	private static volatile String databaseProductName;
+
+	private DbExceptionClassifier() {
+	}
+
+	/**
+	 * 配置数据库产品名称，如 DatabaseMetaData#getDatabaseProductName() 的返回值；
+	 * 配置后不再按驱动判断，名称包含 MySQL 或 MariaDB 时所有 SQLException 都使用 MySQL 错误码表，否则都不使用
+	 *
+	 * @param productName 数据库产品名称，null 表示按驱动判断
+	 */
+	public static void setDatabaseProductName(String productName) {
+		databaseProductName = productName;
+	}
+
+	/**
+	 * 数据库异常分类
+	 *
+	 * @param e 异常
+	 * @return 对应的返回信息枚举
+	 */
+	public static DbResponseEnum classify(Throwable e) {
+		DbResponseEnum responseEnum = classifyDataAccessException(e);
+		if (responseEnum != null) {
+			return responseEnum;
+		}
+		Throwable current = e;
+		for (int depth = 0; current != null && depth < MAX_CAUSE_DEPTH; depth++) {
+			if (current instanceof SQLException) {
+				responseEnum = classifySqlException((SQLException) current);
+				if (responseEnum != null) {
+					return responseEnum;
+				}
+			}
+			Throwable cause = current.getCause();
+			current = cause == current ? null : cause;
+		}
+		return DbResponseEnum.DB_OPERATION_ERROR;
+	}
+
+	private static DbResponseEnum classifyDataAccessException(Throwable e) {
+		if (e instanceof DuplicateKeyException) {
+			return DbResponseEnum.DUPLICATED_KEY_ERROR;
+		}
+		if (e instanceof PessimisticLockingFailureException || e instanceof OptimisticLockingFailureException) {
+			return DbResponseEnum.DB_LOCK_CONFLICT;
+		}
+		if (e instanceof QueryTimeoutException) {
+			return DbResponseEnum.DB_QUERY_TIMEOUT;
+		}
+		if (e instanceof DataAccessResourceFailureException) {
+			return DbResponseEnum.DB_UNAVAILABLE;
+		}
+		if (e instanceof DataIntegrityViolationException) {
+			return DbResponseEnum.DB_CONSTRAINT_VIOLATION;
+		}
+		if (e instanceof TransientDataAccessException || e instanceof RecoverableDataAccessException) {
+			return DbResponseEnum.DB_TRANSIENT_ERROR;
+		}
+		return null;
+	}
+
+	private static DbResponseEnum classifySqlException(SQLException e) {
+		String sqlState = e.getSQLState();
+		DbResponseEnum responseEnum = classifySqlState(sqlState);
+		if (responseEnum == null && isMySql(e)) {
+			responseEnum = classifyMySqlErrorCode(e.getErrorCode());
+		}
+		if (responseEnum == null) {
+			responseEnum = classifySqlStateClass(sqlState);
+		}
+		if (responseEnum != null) {
+			return responseEnum;
+		}
+		if (e instanceof SQLTimeoutException) {
+			return DbResponseEnum.DB_QUERY_TIMEOUT;
+		}
+		if (e instanceof SQLTransientConnectionException || e instanceof SQLNonTransientConnectionException) {
+			return DbResponseEnum.DB_UNAVAILABLE;
+		}
+		if (e instanceof SQLTransientException || e instanceof SQLRecoverableException) {
+			return DbResponseEnum.DB_TRANSIENT_ERROR;
+		}
+		return null;
+	}
+
+	/**
+	 * 异常是否来自 MySQL / MariaDB
+	 */
+	private static boolean isMySql(SQLException e) {
+		String productName = databaseProductName;
+		if (productName != null) {
+			String name = productName.toLowerCase(Locale.ROOT);
+			return name.contains("mysql") || name.contains("mariadb");
+		}
+		if (isMySqlDriverClass(e.getClass().getName())) {
+			return true;
+		}
+		// MySQL 驱动也会直接抛出 java.sql.SQLException，此时按抛出异常的类判断
+		StackTraceElement[] stackTrace = e.getStackTrace();
+		return stackTrace.length > 0 && isMySqlDriverClass(stackTrace[0].getClassName());
+	}
+
+	private static boolean isMySqlDriverClass(String className) {
+		for (String driverPackage : MYSQL_DRIVER_PACKAGES) {
+			if (className.startsWith(driverPackage)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * MySQL / MariaDB 错误码
+	 */
+	private static DbResponseEnum classifyMySqlErrorCode(int errorCode) {
+		switch (errorCode) {
+			// ER_LOCK_DEADLOCK, ER_LOCK_WAIT_TIMEOUT
+			case 1213:
+			case 1205:
+				return DbResponseEnum.DB_LOCK_CONFLICT;
+			// ER_DUP_ENTRY, ER_DUP_ENTRY_WITH_KEY_NAME
+			case 1062:
+			case 1586:
+				return DbResponseEnum.DUPLICATED_KEY_ERROR;
+			// ER_QUERY_INTERRUPTED, ER_QUERY_TIMEOUT
+			case 1317:
+			case 3024:
+				return DbResponseEnum.DB_QUERY_TIMEOUT;
+			// ER_CON_COUNT_ERROR, ER_TOO_MANY_USER_CONNECTIONS, ER_SERVER_SHUTDOWN, CR_CONNECTION_ERROR, CR_CONN_HOST_ERROR, CR_SERVER_GONE_ERROR, CR_SERVER_LOST
+			case 1040:
+			case 1203:
+			case 1053:
+			case 2002:
+			case 2003:
+			case 2006:
+			case 2013:
+				return DbResponseEnum.DB_UNAVAILABLE;
+			// ER_NO_REFERENCED_ROW_2, ER_ROW_IS_REFERENCED_2, ER_BAD_NULL_ERROR, ER_CHECK_CONSTRAINT_VIOLATED
+			case 1451:
+			case 1452:
+			case 1048:
+			case 3819:
+				return DbResponseEnum.DB_CONSTRAINT_VIOLATION;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * 明确的标准 SQLState
+	 */
+	private static DbResponseEnum classifySqlState(String sqlState) {
+		if (sqlState == null) {
+			return null;
+		}
+		switch (sqlState) {
+			// 唯一约束
+			case "23505":
+				return DbResponseEnum.DUPLICATED_KEY_ERROR;
+			// 序列化失败、死锁、获取锁失败
+			case "40001":
+			case "40P01":
+			case "55P03":
+				return DbResponseEnum.DB_LOCK_CONFLICT;
+			// 语句取消、超时
+			case "57014":
+			case "HYT00":
+			case "HYT01":
+				return DbResponseEnum.DB_QUERY_TIMEOUT;
+			// 服务器关闭、不可连接
+			case "57P01":
+			case "57P03":
+			case "53300":
+				return DbResponseEnum.DB_UNAVAILABLE;
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * 标准 SQLState 的类别
+	 */
+	private static DbResponseEnum classifySqlStateClass(String sqlState) {
+		if (sqlState == null || sqlState.length() < 2) {
+			return null;
+		}
+		char first = sqlState.charAt(0);
+		char second = sqlState.charAt(1);
+		// 08: 连接异常，23: 违反完整性约束，40: 事务回滚
+		if (first == '0' && second == '8') {
+			return DbResponseEnum.DB_UNAVAILABLE;
+		}
+		if (first == '2' && second == '3') {
+			return DbResponseEnum.DB_CONSTRAINT_VIOLATION;
+		}
+		if (first == '4' && second == '0') {
+			return DbResponseEnum.DB_TRANSIENT_ERROR;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,327 @@
+package com.soulcraft.network.handler;
+
+import com.soulcraft.network.exception.BaseException;
+import com.soulcraft.network.exception.BusinessException;
+import com.soulcraft.network.exception.CompositeBusinessException;
+import com.soulcraft.network.exception.DeadlineExceededException;
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.resp.ResponseEnumRegistry;
+import com.soulcraft.network.resp.error.DbResponseEnum;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import com.soulcraft.network.util.MessageResolver;
+import com.soulcraft.network.util.MessageUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.BindException;
+import org.springframework.validation.MapBindingResult;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * <p>
+ * 错误处理预热，应用启动后提前完成每类错误第一次出现时的开销：
+ * 返回信息枚举的类加载、消息文件加载及 MessageFormat 编译、{@link ErrorResponse} 序列化器的创建等，
+ * 避免滚动发布期间出现延迟毛刺。
+ * </p>
+ * <p>
+ * 预热步骤：
+ * </p>
+ * <pre>
+ * 1. 扫描指定包下的 {@link IResponseEnum} 枚举并注册到 {@link ResponseEnumRegistry}
+ * 2. 在每个语言环境下查找所有已注册返回信息的消息，记录找不到的消息Key
+ * 3. 使用合成的异常逐个执行 {@link UnifiedExceptionHandler} 的处理路径，并用应用的 HttpMessageConverter 序列化错误返回信息
+ * 4. 输出找不到的消息Key及预热耗时
+ * </pre>
+ * <p>
+ * 在 {@link ContextRefreshedEvent} 中同步执行，Spring Boot 在此之后才发布 ApplicationReadyEvent 并将实例标记为就绪。
+ * 处理路径使用单独的错误处理器实例执行，该实例不输出日志，也不会写入 {@link ErrorStormDetector} 及错误日志环形文件，
+ * 合成异常不会触发基于日志的告警。需要时手工声明为 Bean：
+ * </p>
+ * <pre>
+ *     &#64;Bean
+ *     public ErrorHandlerWarmup errorHandlerWarmup() {
+ *         return new ErrorHandlerWarmup(Arrays.asList(Locale.US, Locale.SIMPLIFIED_CHINESE), "com.example");
+ *     }
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Slf4j
+public class ErrorHandlerWarmup implements ApplicationListener<ContextRefreshedEvent> {
+	private static final String SERVLET_EXCEPTION = "javax.servlet.ServletException";
+	private static final String WARMUP_MESSAGE = "warm-up";
+
+	private final List<Locale> locales;
+	private final String[] basePackages;
+	private final AtomicBoolean done = new AtomicBoolean();
+	private boolean failOnMissingMessages;
+	private volatile WarmupReport lastReport;
+
+	/**
+	 * 只检查默认语言环境，不扫描返回信息枚举
+	 */
+	public ErrorHandlerWarmup() {
+		this(Collections.singletonList(Locale.getDefault()));
+	}
+
+	/**
+	 * @param locales      需要检查的语言环境
+	 * @param basePackages 扫描 {@link IResponseEnum} 枚举的包，内置的返回信息枚举总是会检查
+	 */
+	public ErrorHandlerWarmup(List<Locale> locales, String... basePackages) {
+		if (locales.isEmpty()) {
+			throw new IllegalArgumentException("locales must not be empty");
+		}
+		this.locales = Collections.unmodifiableList(new ArrayList<>(locales));
+		this.basePackages = basePackages.clone();
+	}
+
+	/**
+	 * 设置找不到消息时是否中止启动，默认只输出警告日志
+	 *
+	 * @param failOnMissingMessages 找不到消息时是否抛出 {@link IllegalStateException}
+	 */
+	public void setFailOnMissingMessages(boolean failOnMissingMessages) {
+		this.failOnMissingMessages = failOnMissingMessages;
+	}
+
+	/**
+	 * @return 最近一次预热的结果，尚未预热时返回 null
+	 */
+	public WarmupReport getLastReport() {
+		return lastReport;
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		// 父子容器各自刷新时都会发布该事件，只预热一次
+		if (!done.compareAndSet(false, true)) {
+			return;
+		}
+		WarmupReport report = warmup(event.getApplicationContext());
+		if (failOnMissingMessages && !report.getMissingMessages().isEmpty()) {
+			throw new IllegalStateException("missing error messages: " + report.getMissingMessages());
+		}
+	}
+
+	/**
+	 * 执行一次预热
+	 *
+	 * @param applicationContext 用于扫描返回信息枚举及查找 HttpMessageConverter，可以为 null
+	 * @return 预热结果
+	 */
+	public WarmupReport warmup(ApplicationContext applicationContext) {
+		long start = System.nanoTime();
+		for (String basePackage : basePackages) {
+			registerResponseEnums(applicationContext, basePackage);
+		}
+		List<IResponseEnum> responseEnums = new ArrayList<>(ResponseEnumRegistry.all());
+		List<String> missingMessages = resolveMessages(responseEnums);
+
+		List<String> failedPaths = new ArrayList<>();
+		int handlerPaths = 0;
+		ClassLoader classLoader = applicationContext == null ? null : applicationContext.getClassLoader();
+		if (ClassUtils.isPresent(SERVLET_EXCEPTION, classLoader)) {
+			HttpMessageConverter<Object> converter = findJsonConverter(applicationContext);
+			UnifiedExceptionHandler handler = new UnifiedExceptionHandler();
+			handler.setQuiet(true);
+			Map<String, Supplier<ResponseEntity<ErrorResponse>>> paths = handlerPaths(handler);
+			handlerPaths = paths.size();
+			for (Map.Entry<String, Supplier<ResponseEntity<ErrorResponse>>> path : paths.entrySet()) {
+				try {
+					write(converter, path.getValue().get());
+				} catch (Exception | LinkageError e) {
+					failedPaths.add(path.getKey() + ": " + e);
+				}
+			}
+		}
+
+		WarmupReport report = new WarmupReport(responseEnums.size(), locales, missingMessages, handlerPaths,
+				failedPaths, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		lastReport = report;
+		log.info("error handler warm-up finished in {} ms: {} response codes, {} locales, {} handler paths",
+				report.getElapsedMillis(), report.getResponseEnumCount(), locales.size(), handlerPaths);
+		if (!missingMessages.isEmpty()) {
+			log.warn("{} error messages not found: {}", missingMessages.size(), missingMessages);
+		}
+		if (!failedPaths.isEmpty()) {
+			log.warn("{} error handler paths failed: {}", failedPaths.size(), failedPaths);
+		}
+		return report;
+	}
+
+	/**
+	 * 扫描包下的 {@link IResponseEnum} 枚举并注册，包括含抽象方法的枚举
+	 */
+	private static void registerResponseEnums(ApplicationContext applicationContext, String basePackage) {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				return beanDefinition.getMetadata().isIndependent();
+			}
+		};
+		scanner.addIncludeFilter(new AssignableTypeFilter(IResponseEnum.class));
+		if (applicationContext != null) {
+			scanner.setResourceLoader(applicationContext);
+			scanner.setEnvironment(applicationContext.getEnvironment());
+		}
+		ClassLoader classLoader = applicationContext == null ? null : applicationContext.getClassLoader();
+		for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+			Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+			if (type.isEnum()) {
+				ResponseEnumRegistry.register((IResponseEnum[]) type.getEnumConstants());
+			}
+		}
+	}
+
+	/**
+	 * 在每个语言环境下查找消息，带一个参数以便同时编译 MessageFormat
+	 *
+	 * @return 找不到的消息
+	 */
+	private List<String> resolveMessages(List<IResponseEnum> responseEnums) {
+		MessageResolver resolver = MessageUtils.getMessageResolver();
+		Object[] args = {WARMUP_MESSAGE};
+		List<String> missingMessages = new ArrayList<>();
+		for (Locale locale : locales) {
+			for (IResponseEnum responseEnum : responseEnums) {
+				String key = MessageUtils.getResponseMessageKey(responseEnum);
+				if (resolver.getMessage(key, args, locale) == null) {
+					missingMessages.add(key + " [" + locale + "]");
+				}
+			}
+		}
+		return missingMessages;
+	}
+
+	/**
+	 * 每个处理路径及触发它的合成异常
+	 */
+	private static Map<String, Supplier<ResponseEntity<ErrorResponse>>> handlerPaths(UnifiedExceptionHandler handler) {
+		Map<String, Supplier<ResponseEntity<ErrorResponse>>> paths = new LinkedHashMap<>();
+		paths.put("business", () -> handler.handleBusinessException(
+				(BusinessException) DbResponseEnum.RECORD_NOT_FOUND.newException(WARMUP_MESSAGE)));
+		paths.put("composite", () -> handler.handleCompositeBusinessException(CompositeBusinessException.of(
+				Arrays.asList(DbResponseEnum.RECORD_IN_USE.newException(), new IllegalStateException(WARMUP_MESSAGE)))));
+		paths.put("deadline", () -> handler.handleDeadlineExceededException(
+				(DeadlineExceededException) HttpStatusEnum.GATEWAY_TIMEOUT.newDeadlineExceededException()));
+		paths.put("base", () -> handler.handleBaseException(new BaseException(HttpStatusEnum.FORBIDDEN)));
+		paths.put("servlet", () -> handler.handleServletException(
+				new NoHandlerFoundException("GET", "/" + WARMUP_MESSAGE, new HttpHeaders())));
+		paths.put("bind", () -> handler.handleBindException(new BindException(bindingResult())));
+		paths.put("valid", () -> handler.handleValidException(methodArgumentNotValid()));
+		paths.put("duplicate key", () -> handler.handleException(new DuplicateKeyException(WARMUP_MESSAGE)));
+		paths.put("data access", () -> handler.handleException(new QueryTimeoutException(WARMUP_MESSAGE)));
+		paths.put("sql", () -> handler.handleException(new SQLException(WARMUP_MESSAGE, "08001")));
+		paths.put("async wrapper", () -> handler.handleAsyncWrapperException(
+				new CompletionException(DbResponseEnum.RECORD_NOT_FOUND.newException(WARMUP_MESSAGE))));
+		paths.put("generic", () -> handler.handleException(new IllegalStateException(WARMUP_MESSAGE)));
+		return paths;
+	}
+
+	private static MapBindingResult bindingResult() {
+		MapBindingResult bindingResult = new MapBindingResult(new HashMap<String, Object>(), WARMUP_MESSAGE);
+		bindingResult.reject(WARMUP_MESSAGE, WARMUP_MESSAGE);
+		return bindingResult;
+	}
+
+	private static MethodArgumentNotValidException methodArgumentNotValid() {
+		try {
+			MethodParameter parameter = new MethodParameter(
+					ErrorHandlerWarmup.class.getDeclaredMethod("validationTarget", Object.class), 0);
+			return new MethodArgumentNotValidException(parameter, bindingResult());
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 供 {@link MethodArgumentNotValidException} 引用的方法
+	 */
+	@SuppressWarnings("unused")
+	private static void validationTarget(Object target) {
+	}
+
+	/**
+	 * 查找应用序列化 JSON 错误返回信息时使用的 HttpMessageConverter
+	 *
+	 * @return HttpMessageConverter，不是 Spring MVC 应用或没有可用的转换器时返回 null
+	 */
+	@SuppressWarnings("unchecked")
+	private static HttpMessageConverter<Object> findJsonConverter(ApplicationContext applicationContext) {
+		if (applicationContext == null) {
+			return null;
+		}
+		RequestMappingHandlerAdapter adapter = applicationContext.getBeanProvider(RequestMappingHandlerAdapter.class)
+				.getIfUnique();
+		if (adapter == null) {
+			return null;
+		}
+		for (HttpMessageConverter<?> converter : adapter.getMessageConverters()) {
+			if (converter.canWrite(ErrorResponse.class, MediaType.APPLICATION_JSON)) {
+				return (HttpMessageConverter<Object>) converter;
+			}
+		}
+		return null;
+	}
+
+	private static void write(HttpMessageConverter<Object> converter, ResponseEntity<ErrorResponse> entity)
+			throws Exception {
+		if (converter == null || entity == null || entity.getBody() == null) {
+			return;
+		}
+		converter.write(entity.getBody(), MediaType.APPLICATION_JSON, new BufferedOutputMessage());
+	}
+
+	/**
+	 * 写入内存的 HttpOutputMessage，内容随后丢弃
+	 */
+	private static final class BufferedOutputMessage implements HttpOutputMessage {
+		private final HttpHeaders headers = new HttpHeaders();
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+		@Override
+		public OutputStream getBody() {
+			return body;
+		}
+
+		@Override
+		public HttpHeaders getHeaders() {
+			return headers;
+		}
+	}
+}
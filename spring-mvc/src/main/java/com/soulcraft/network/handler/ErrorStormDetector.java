@@ -0,0 +1,135 @@
+package com.soulcraft.network.handler;
+
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.util.SlidingWindowCounter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * 错误风暴检测，按整个错误码统计滑动窗口内的错误数
+ * </p>
+ * <p>
+ * 错误数达到进入阈值时该错误码进入降级模式，全局错误处理器不再输出调用栈、直接返回缓存的错误返回信息，只累加计数；
+ * 错误数低于退出阈值时自动恢复。进入及退出降级模式时各输出一条日志。
+ * 需要声明为 Bean，{@link UnifiedExceptionHandler} 会自动注入。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Slf4j
+public class ErrorStormDetector {
+	private final long window;
+	private final TimeUnit unit;
+	private final int buckets;
+	private final long enterThreshold;
+	private final long exitThreshold;
+	private final Map<String, CodeState> states = new ConcurrentHashMap<>();
+
+	/**
+	 * 10 秒内同一错误码出现 50 次进入降级模式，低于 10 次恢复
+	 */
+	public ErrorStormDetector() {
+		this(10, TimeUnit.SECONDS, 10, 50, 10);
+	}
+
+	/**
+	 * @param window         窗口长度
+	 * @param unit           窗口长度单位
+	 * @param buckets        窗口的桶数量
+	 * @param enterThreshold 进入降级模式的窗口内错误数
+	 * @param exitThreshold  退出降级模式的窗口内错误数，需要小于进入阈值
+	 */
+	public ErrorStormDetector(long window, TimeUnit unit, int buckets, long enterThreshold, long exitThreshold) {
+		if (exitThreshold >= enterThreshold) {
+			throw new IllegalArgumentException("exitThreshold must be less than enterThreshold");
+		}
+		this.window = window;
+		this.unit = unit;
+		this.buckets = buckets;
+		this.enterThreshold = enterThreshold;
+		this.exitThreshold = exitThreshold;
+	}
+
+	/**
+	 * 记录一次错误
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @return 该错误码是否处于降级模式
+	 */
+	public boolean record(IResponseEnum responseEnum) {
+		CodeState state = states.computeIfAbsent(responseEnum.getFullCode(),
+				code -> new CodeState(new SlidingWindowCounter(window, unit, buckets)));
+		long now = SlidingWindowCounter.now();
+		state.counter.add(now, 1L);
+		boolean degraded = update(responseEnum.getFullCode(), state, state.counter.sum(now));
+		if (degraded) {
+			state.suppressed.incrementAndGet();
+		}
+		return degraded;
+	}
+
+	/**
+	 * @param fullCode 整个错误码信息
+	 * @return 该错误码是否处于降级模式
+	 */
+	public boolean isDegraded(String fullCode) {
+		CodeState state = states.get(fullCode);
+		return state != null && update(fullCode, state, state.counter.sum());
+	}
+
+	/**
+	 * @return 处于降级模式的错误码
+	 */
+	public Set<String> getDegradedCodes() {
+		Set<String> codes = new TreeSet<>();
+		for (Map.Entry<String, CodeState> entry : states.entrySet()) {
+			if (entry.getValue().degraded.get()) {
+				codes.add(entry.getKey());
+			}
+		}
+		return codes;
+	}
+
+	/**
+	 * @param fullCode 整个错误码信息
+	 * @return 降级模式下累计省略处理的错误数
+	 */
+	public long getSuppressedCount(String fullCode) {
+		CodeState state = states.get(fullCode);
+		return state == null ? 0L : state.suppressed.get();
+	}
+
+	private boolean update(String fullCode, CodeState state, long count) {
+		if (state.degraded.get()) {
+			if (count < exitThreshold && state.degraded.compareAndSet(true, false)) {
+				log.info("error storm of {} recovered, {} errors suppressed", fullCode, state.suppressed.getAndSet(0L));
+				return false;
+			}
+			return state.degraded.get();
+		}
+		if (count >= enterThreshold && state.degraded.compareAndSet(false, true)) {
+			log.warn("error storm of {} detected, {} errors in {} {}, switching to degraded mode",
+					fullCode, count, window, unit);
+		}
+		return state.degraded.get();
+	}
+
+	private static final class CodeState {
+		private final SlidingWindowCounter counter;
+		private final AtomicBoolean degraded = new AtomicBoolean();
+		private final AtomicLong suppressed = new AtomicLong();
+
+		private CodeState(SlidingWindowCounter counter) {
+			this.counter = counter;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.soulcraft.network.handler;
+
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.error.FieldErrorDetail;
+import com.soulcraft.network.util.MessageResolver;
+import com.soulcraft.network.util.MessageUtils;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <p>
+ * 将参数校验失败组合为错误返回信息
+ * </p>
+ * <p>
+ * 最多输出 maxFieldErrors 条明细到 {@link ErrorResponse#getFieldErrors()}，其余只计数到
+ * {@link ErrorResponse#getFieldErrorsOmitted()}；返回消息同样只包含输出的明细，并在截断时注明未输出的数量，
+ * 避免大批量数据校验失败时构造、记录及序列化巨大的消息。
+ * 明细消息按约束的错误码（如 NotNull）通过 {@link MessageResolver} 查找，找不到时使用校验器给出的默认消息；
+ * 每个不同的 (错误码, 默认消息) 只查找一次，相同的明细共用同一个消息实例。
+ * 需要修改上限时声明为 Bean，{@link UnifiedExceptionHandler} 会自动注入。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class FieldErrorAggregator {
+	/**
+	 * 默认最多输出的明细数
+	 */
+	public static final int DEFAULT_MAX_FIELD_ERRORS = 20;
+
+	private final int maxFieldErrors;
+
+	public FieldErrorAggregator() {
+		this(DEFAULT_MAX_FIELD_ERRORS);
+	}
+
+	/**
+	 * @param maxFieldErrors 最多输出的明细数
+	 */
+	public FieldErrorAggregator(int maxFieldErrors) {
+		if (maxFieldErrors <= 0) {
+			throw new IllegalArgumentException("maxFieldErrors must be positive");
+		}
+		this.maxFieldErrors = maxFieldErrors;
+	}
+
+	/**
+	 * 组合参数校验失败，使用当前的消息查找及默认语言环境
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param errors       所有校验失败
+	 * @return 错误返回信息
+	 */
+	public ErrorResponse aggregate(IResponseEnum responseEnum, List<ObjectError> errors) {
+		return aggregate(responseEnum, errors, MessageUtils.getMessageResolver(), Locale.getDefault());
+	}
+
+	/**
+	 * 组合参数校验失败
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param errors       所有校验失败
+	 * @param resolver     明细消息的查找
+	 * @param locale       语言环境
+	 * @return 错误返回信息
+	 */
+	public ErrorResponse aggregate(IResponseEnum responseEnum, List<ObjectError> errors, MessageResolver resolver, Locale locale) {
+		int count = Math.min(errors.size(), maxFieldErrors);
+		List<FieldErrorDetail> details = new ArrayList<>(count);
+		Map<String, String> messages = new HashMap<>();
+		StringBuilder msg = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			ObjectError error = errors.get(i);
+			String field = error instanceof FieldError ? ((FieldError) error).getField() : null;
+			String message = messages.computeIfAbsent(error.getCode() + '\u0000' + error.getDefaultMessage(),
+					key -> resolve(error, resolver, locale));
+			details.add(new FieldErrorDetail(field, error.getCode(), message));
+
+			if (i > 0) {
+				msg.append(", ");
+			}
+			if (field != null) {
+				msg.append(field).append(": ");
+			}
+			msg.append(message);
+		}
+		int omitted = errors.size() - count;
+		if (omitted > 0) {
+			msg.append(", ... ").append(omitted).append(" more");
+		}
+
+		ErrorResponse body = new ErrorResponse(responseEnum, msg.toString());
+		body.setFieldErrors(details);
+		body.setFieldErrorsOmitted(omitted > 0 ? omitted : null);
+		return body;
+	}
+
+	private static String resolve(ObjectError error, MessageResolver resolver, Locale locale) {
+		String message = error.getCode() == null ? null : resolver.getMessage(error.getCode(), null, locale);
+		if (message == null || message.isEmpty()) {
+			message = error.getDefaultMessage();
+		}
+		return message == null ? "" : message;
+	}
+}
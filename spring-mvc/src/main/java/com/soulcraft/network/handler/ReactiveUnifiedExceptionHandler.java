@@ -0,0 +1,303 @@
+package com.soulcraft.network.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soulcraft.network.exception.BaseException;
+import com.soulcraft.network.exception.CompositeBusinessException;
+import com.soulcraft.network.exception.DeadlineExceededException;
+import com.soulcraft.network.journal.ErrorJournal;
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.resp.error.CommonResponseEnum;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import com.soulcraft.network.util.MessageResolver;
+import com.soulcraft.network.util.MessageUtils;
+import com.soulcraft.network.util.SpringMessageResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * WebFlux 全局错误处理器，与 {@link UnifiedExceptionHandler} 的映射规则一致
+ * </p>
+ * <p>
+ * 与 {@link UnifiedExceptionHandler} 一样，基础异常返回异常自身的消息；其他错误及没有消息的异常按
+ * {@link ServerWebExchange#getLocaleContext()} 的语言环境查找消息，消息Key与 {@link MessageUtils} 相同，
+ * 但使用自己的 {@link MessageResolver} 查找。没有消息参数的错误返回信息按 (错误码, 语言环境) 预先编码并缓存，之后直接包装为 {@link DataBuffer} 写出。
+ * 顺序在 Spring Boot 默认的 WebFlux 错误处理器之前，需要手工注册为 Bean：
+ * </p>
+ * <pre>
+ *     &#64;Bean
+ *     public ReactiveUnifiedExceptionHandler reactiveUnifiedExceptionHandler(MessageSource messageSource, ObjectMapper objectMapper) {
+ *         return new ReactiveUnifiedExceptionHandler(messageSource, objectMapper);
+ *     }
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Slf4j
+public class ReactiveUnifiedExceptionHandler implements WebExceptionHandler, Ordered {
+	/**
+	 * 预编码缓存上限，超出上限后不再缓存
+	 */
+	private static final int MAX_CACHED_BODIES = 4096;
+	private static final Map<Integer, HttpStatusEnum> HTTP_STATUSES = new HashMap<>();
+
+	static {
+		for (HttpStatusEnum status : HttpStatusEnum.values()) {
+			HTTP_STATUSES.putIfAbsent(status.getCode(), status);
+		}
+	}
+
+	private final MessageResolver messageResolver;
+	private final ObjectMapper objectMapper;
+	private final ConcurrentMap<BodyKey, byte[]> encodedBodies = new ConcurrentHashMap<>();
+	private volatile ErrorJournal errorJournal;
+	private volatile FieldErrorAggregator fieldErrorAggregator = new FieldErrorAggregator();
+
+	public ReactiveUnifiedExceptionHandler(MessageSource messageSource, ObjectMapper objectMapper) {
+		this(new SpringMessageResolver(messageSource), objectMapper);
+	}
+
+	/**
+	 * @param messageResolver 消息查找
+	 * @param objectMapper    序列化错误返回信息
+	 */
+	public ReactiveUnifiedExceptionHandler(MessageResolver messageResolver, ObjectMapper objectMapper) {
+		this.messageResolver = messageResolver;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * 设置错误日志环形文件，未设置时不记录
+	 *
+	 * @param errorJournal 错误日志环形文件
+	 */
+	public void setErrorJournal(ErrorJournal errorJournal) {
+		this.errorJournal = errorJournal;
+	}
+
+	/**
+	 * 设置参数校验失败的组合方式，未设置时最多输出 {@link FieldErrorAggregator#DEFAULT_MAX_FIELD_ERRORS} 条明细
+	 *
+	 * @param fieldErrorAggregator 参数校验失败的组合方式
+	 */
+	public void setFieldErrorAggregator(FieldErrorAggregator fieldErrorAggregator) {
+		this.fieldErrorAggregator = fieldErrorAggregator;
+	}
+
+	@Override
+	public int getOrder() {
+		return -2;
+	}
+
+	@Override
+	public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+		ServerHttpResponse response = exchange.getResponse();
+		if (ClientAbortDetector.isClientAbort(ex)) {
+			// 客户端已断开连接，不再写出错误返回信息
+			if (log.isDebugEnabled()) {
+				log.debug("client aborted: {}", ex.toString());
+			}
+			return Mono.empty();
+		}
+		if (response.isCommitted()) {
+			return Mono.error(ex);
+		}
+		Locale locale = exchange.getLocaleContext().getLocale();
+		if (locale == null) {
+			locale = Locale.getDefault();
+		}
+		if (ex instanceof CompositeBusinessException) {
+			CompositeBusinessException e = (CompositeBusinessException) ex;
+			journal(exchange, e.getResponseEnum(), e);
+			log.error(e.getResponseEnum().getFullCode() + ", " + e.getLocalizedMessage());
+			ErrorResponse body = new ErrorResponse(e.getResponseEnum(), resolveMessage(e, locale));
+			List<ErrorResponse> errors = new ArrayList<>(e.getFailures().size());
+			for (BaseException failure : e.getFailures()) {
+				errors.add(new ErrorResponse(failure.getResponseEnum(), resolveMessage(failure, locale)));
+			}
+			body.setErrors(errors);
+			return write(response, e.getResponseEnum(), encode(body));
+		}
+		if (ex instanceof BaseException) {
+			BaseException e = (BaseException) ex;
+			journal(exchange, e.getResponseEnum(), e);
+			if (ex instanceof DeadlineExceededException) {
+				if (log.isDebugEnabled()) {
+					log.debug(e.getResponseEnum().getFullCode() + ", " + e.getLocalizedMessage());
+				}
+			} else {
+				log.error(e.getResponseEnum().getFullCode() + ", " + e.getLocalizedMessage());
+			}
+			return write(e, response, locale);
+		}
+		if (ex instanceof WebExchangeBindException) {
+			CommonResponseEnum responseEnum = CommonResponseEnum.VALIDATE_FAILED;
+			ErrorResponse body = fieldErrorAggregator.aggregate(responseEnum, ((WebExchangeBindException) ex).getAllErrors(),
+					messageResolver, locale);
+			// 只记录截断后的消息，不调用异常的 getMessage()，不输出 Spring 对所有校验失败的完整描述及调用栈
+			journal(exchange, responseEnum, ex, body.getMessage());
+			log.error(responseEnum.getFullCode() + ", " + body.getMessage());
+			return write(response, responseEnum, encode(body));
+		}
+		IResponseEnum responseEnum = HttpStatusEnum.INTERNAL_SERVER_ERROR;
+		if (ex instanceof ServerWebInputException) {
+			responseEnum = HttpStatusEnum.BAD_REQUEST;
+		} else if (ex instanceof ResponseStatusException) {
+			HttpStatusEnum status = HTTP_STATUSES.get(((ResponseStatusException) ex).getRawStatusCode());
+			responseEnum = status == null ? HttpStatusEnum.INTERNAL_SERVER_ERROR : status;
+		} else if (ex instanceof DataAccessException || ex instanceof SQLException) {
+			responseEnum = DbExceptionClassifier.classify(ex);
+		}
+		if (ex instanceof ResponseStatusException && responseEnum.getHttpStatus() < 500) {
+			// 404 等客户端错误很常见（如扫描器），只在调试级别记录，不输出调用栈
+			if (log.isDebugEnabled()) {
+				log.debug(responseEnum.getFullCode() + ", " + ex.getMessage());
+			}
+		} else {
+			log.error(ex.getMessage(), ex);
+		}
+		journal(exchange, responseEnum, ex);
+		return write(response, responseEnum, locale);
+	}
+
+	/**
+	 * 将错误追加到错误日志环形文件，未设置 {@link ErrorJournal} 时忽略
+	 */
+	private void journal(ServerWebExchange exchange, IResponseEnum responseEnum, Throwable ex) {
+		if (errorJournal != null) {
+			journal(exchange, responseEnum, ex, ex.getMessage());
+		}
+	}
+
+	/**
+	 * 将错误追加到错误日志环形文件，使用指定的消息，未设置 {@link ErrorJournal} 时忽略
+	 */
+	private void journal(ServerWebExchange exchange, IResponseEnum responseEnum, Throwable ex, String message) {
+		ErrorJournal journal = errorJournal;
+		if (journal != null) {
+			journal.append(responseEnum, ex, message, exchange.getRequest().getPath().value());
+		}
+	}
+
+	private Mono<Void> write(ServerHttpResponse response, IResponseEnum responseEnum, Locale locale, Object... args) {
+		if (args != null && args.length > 0) {
+			return write(response, responseEnum, encode(new ErrorResponse(responseEnum, resolveMessage(responseEnum, locale, args))));
+		}
+		BodyKey key = new BodyKey(responseEnum.getFullCode(), locale);
+		byte[] body = encodedBodies.get(key);
+		if (body == null) {
+			body = encode(new ErrorResponse(responseEnum, resolveMessage(responseEnum, locale)));
+			if (encodedBodies.size() < MAX_CACHED_BODIES) {
+				byte[] existing = encodedBodies.putIfAbsent(key, body);
+				if (existing != null) {
+					body = existing;
+				}
+			}
+		}
+		return write(response, responseEnum, body);
+	}
+
+	/**
+	 * 写出错误返回信息，HTTP 状态码及缓存相关响应头由返回信息枚举决定
+	 */
+	private static Mono<Void> write(ServerHttpResponse response, IResponseEnum responseEnum, byte[] body) {
+		response.setRawStatusCode(responseEnum.getHttpStatus());
+		HttpHeaders headers = response.getHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.setContentLength(body.length);
+		String cacheControl = responseEnum.getCacheControl();
+		if (cacheControl != null) {
+			headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+		}
+		int retryAfter = responseEnum.getRetryAfter();
+		if (retryAfter >= 0) {
+			headers.set(HttpHeaders.RETRY_AFTER, Integer.toString(retryAfter));
+		}
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body)));
+	}
+
+	/**
+	 * 写出基础异常的错误返回信息，与 {@link UnifiedExceptionHandler} 一致使用异常自身的消息
+	 */
+	private Mono<Void> write(BaseException e, ServerHttpResponse response, Locale locale) {
+		String message = e.getLocalizedMessage();
+		if (message == null || message.isEmpty()) {
+			return write(response, e.getResponseEnum(), locale, e.getArgs());
+		}
+		return write(response, e.getResponseEnum(), encode(new ErrorResponse(e.getResponseEnum(), message)));
+	}
+
+	/**
+	 * 异常自身的消息，没有时按语言环境查找
+	 */
+	private String resolveMessage(BaseException e, Locale locale) {
+		String message = e.getLocalizedMessage();
+		return message == null || message.isEmpty() ? resolveMessage(e.getResponseEnum(), locale, e.getArgs()) : message;
+	}
+
+	private String resolveMessage(IResponseEnum responseEnum, Locale locale, Object... args) {
+		String code = MessageUtils.getResponseMessageKey(responseEnum);
+		String message = messageResolver.getMessage(code, args, locale);
+		return message == null || message.isEmpty() ? code : message;
+	}
+
+	private byte[] encode(ErrorResponse body) {
+		try {
+			return objectMapper.writeValueAsBytes(body);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("failed to encode error response " + body.getCode(), e);
+		}
+	}
+
+	private static final class BodyKey {
+		private final String fullCode;
+		private final Locale locale;
+
+		private BodyKey(String fullCode, Locale locale) {
+			this.fullCode = fullCode;
+			this.locale = locale;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof BodyKey)) {
+				return false;
+			}
+			BodyKey that = (BodyKey) o;
+			return fullCode.equals(that.fullCode) && locale.equals(that.locale);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(fullCode, locale);
+		}
+	}
+}
@@ -0,0 +1,537 @@
+package com.soulcraft.network.handler;
+
+import com.soulcraft.network.exception.BaseException;
+import com.soulcraft.network.exception.BusinessException;
+import com.soulcraft.network.exception.CompositeBusinessException;
+import com.soulcraft.network.exception.DeadlineExceededException;
+import com.soulcraft.network.journal.ErrorJournal;
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.resp.error.*;
+import com.soulcraft.network.util.MessageUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.helpers.NOPLogger;
+import org.springframework.beans.ConversionNotSupportedException;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingPathVariableException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.multipart.support.MissingServletRequestPartException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * 全局错误处理器
+ * </p>
+ * <p>
+ * 返回的 HTTP 状态码及 Cache-Control、Retry-After 响应头由返回信息枚举声明，
+ * 参见 {@link IResponseEnum#getHttpStatus()}
+ * </p>
+ *
+ * @author Scott
+ * @since 2022-03-10
+ */
+@Slf4j
+@ControllerAdvice
+public class UnifiedExceptionHandler {
+	/**
+	 * 保存错误码的请求属性，供 SLO 统计等使用
+	 */
+	public static final String ATTR_ERROR_CODE = UnifiedExceptionHandler.class.getName() + ".errorCode";
+	/**
+	 * 异步调用包装异常的最大解包层数，防止异常链成环
+	 */
+	private static final int MAX_UNWRAP_DEPTH = 16;
+	/**
+	 * 由 {@link #handleServletException(Exception)} 处理的异常
+	 */
+	private static final Class<?>[] SERVLET_EXCEPTIONS = {
+			NoHandlerFoundException.class,
+			HttpRequestMethodNotSupportedException.class,
+			HttpMediaTypeNotSupportedException.class,
+			MissingPathVariableException.class,
+			MissingServletRequestParameterException.class,
+			TypeMismatchException.class,
+			HttpMessageNotReadableException.class,
+			HttpMessageNotWritableException.class,
+			HttpMediaTypeNotAcceptableException.class,
+			ServletRequestBindingException.class,
+			ConversionNotSupportedException.class,
+			MissingServletRequestPartException.class,
+			AsyncRequestTimeoutException.class
+	};
+
+	private final Map<String, ResponseEntity<ErrorResponse>> degradedResponses = new ConcurrentHashMap<>();
+	private final LongAdder clientAborts = new LongAdder();
+	private ErrorStormDetector errorStormDetector;
+	private ErrorJournal errorJournal;
+	private FieldErrorAggregator fieldErrorAggregator = new FieldErrorAggregator();
+	private Logger logger = log;
+
+	/**
+	 * 设置错误风暴检测器，未设置时不检测
+	 *
+	 * @param errorStormDetector 错误风暴检测器
+	 */
+	@Autowired(required = false)
+	public void setErrorStormDetector(ErrorStormDetector errorStormDetector) {
+		this.errorStormDetector = errorStormDetector;
+	}
+
+	/**
+	 * 设置错误日志环形文件，未设置时不记录
+	 *
+	 * @param errorJournal 错误日志环形文件
+	 */
+	@Autowired(required = false)
+	public void setErrorJournal(ErrorJournal errorJournal) {
+		this.errorJournal = errorJournal;
+	}
+
+	/**
+	 * 设置参数校验失败的组合方式，未设置时最多输出 {@link FieldErrorAggregator#DEFAULT_MAX_FIELD_ERRORS} 条明细
+	 *
+	 * @param fieldErrorAggregator 参数校验失败的组合方式
+	 */
+	@Autowired(required = false)
+	public void setFieldErrorAggregator(FieldErrorAggregator fieldErrorAggregator) {
+		this.fieldErrorAggregator = fieldErrorAggregator;
+	}
+
+	/**
+	 * 设置是否不输出日志，供 {@link ErrorHandlerWarmup} 执行合成异常时使用
+	 *
+	 * @param quiet 是否不输出日志
+	 */
+	void setQuiet(boolean quiet) {
+		this.logger = quiet ? NOPLogger.NOP_LOGGER : log;
+	}
+
+	/**
+	 * @return 客户端断开连接导致的异常数，参见 {@link ClientAbortDetector}
+	 */
+	public long getClientAbortCount() {
+		return clientAborts.sum();
+	}
+
+	/**
+	 * 业务异常
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler(value = BusinessException.class)
+	public ResponseEntity<ErrorResponse> handleBusinessException(BusinessException e) {
+		journal(e.getResponseEnum(), e);
+		if (!isDegraded(e.getResponseEnum())) {
+			logger.error(e.getResponseEnum().getFullCode() + ", " + e.getLocalizedMessage());
+		}
+		// 此处 e.getLocalizedMessage() 已是国际化后的消息
+		return toResponseEntity(e.getResponseEnum(), new ErrorResponse(e.getResponseEnum(), e.getLocalizedMessage()));
+	}
+
+	/**
+	 * 组合业务异常，子任务的错误码及消息放在 errors 中，只记录一条日志
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler(value = CompositeBusinessException.class)
+	public ResponseEntity<ErrorResponse> handleCompositeBusinessException(CompositeBusinessException e) {
+		journal(e.getResponseEnum(), e);
+		List<ErrorResponse> errors = new ArrayList<>(e.getFailures().size());
+		StringBuilder codes = new StringBuilder();
+		for (BaseException failure : e.getFailures()) {
+			errors.add(new ErrorResponse(failure.getResponseEnum(), failure.getLocalizedMessage()));
+			codes.append(codes.length() == 0 ? "" : ", ").append(failure.getResponseEnum().getFullCode());
+		}
+		logger.error(e.getResponseEnum().getFullCode() + ", " + e.getLocalizedMessage() + " [" + codes + "]");
+		ErrorResponse body = new ErrorResponse(e.getResponseEnum(), e.getLocalizedMessage());
+		body.setErrors(errors);
+		return toResponseEntity(e.getResponseEnum(), body);
+	}
+
+	/**
+	 * 请求截止时间已到期，只在调试级别记录日志
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler(value = DeadlineExceededException.class)
+	public ResponseEntity<ErrorResponse> handleDeadlineExceededException(DeadlineExceededException e) {
+		journal(e.getResponseEnum(), e);
+		if (logger.isDebugEnabled()) {
+			logger.debug(e.getResponseEnum().getFullCode() + ", " + e.getLocalizedMessage());
+		}
+		return toResponseEntity(e.getResponseEnum(), new ErrorResponse(e.getResponseEnum(), e.getLocalizedMessage()));
+	}
+
+	/**
+	 * 基础异常
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler(value = BaseException.class)
+	public ResponseEntity<ErrorResponse> handleBaseException(BaseException e) {
+		journal(e.getResponseEnum(), e);
+		if (!isDegraded(e.getResponseEnum())) {
+			logger.error(e.getResponseEnum().getFullCode() + ", " + e.getLocalizedMessage());
+		}
+		return toResponseEntity(e.getResponseEnum(), new ErrorResponse(e.getResponseEnum(), e.getLocalizedMessage()));
+	}
+
+	/**
+	 * Controller上一层相关异常
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler({
+			NoHandlerFoundException.class,
+			HttpRequestMethodNotSupportedException.class,
+			HttpMediaTypeNotSupportedException.class,
+			MissingPathVariableException.class,
+			MissingServletRequestParameterException.class,
+			TypeMismatchException.class,
+			HttpMessageNotReadableException.class,
+			HttpMessageNotWritableException.class,
+			HttpMediaTypeNotAcceptableException.class,
+			ServletRequestBindingException.class,
+			ConversionNotSupportedException.class,
+			MissingServletRequestPartException.class,
+			AsyncRequestTimeoutException.class
+	})
+	public ResponseEntity<ErrorResponse> handleServletException(Exception e) {
+		if (ClientAbortDetector.isClientAbort(e)) {
+			return clientAborted(e);
+		}
+		ServletResponseEnum servletExceptionEnum = ServletResponseEnum.of(e.getClass());
+		if (servletExceptionEnum == null) {
+			logger.error(e.getMessage(), e);
+			logger.error("class [{}] not defined in enum {}", e.getClass().getName(), ServletResponseEnum.class.getName());
+			journal(HttpStatusEnum.INTERNAL_SERVER_ERROR, e);
+			return toResponseEntity(HttpStatusEnum.INTERNAL_SERVER_ERROR);
+		}
+		journal(servletExceptionEnum, e);
+		if (isDegraded(servletExceptionEnum)) {
+			return degradedResponse(servletExceptionEnum);
+		}
+		logger.error(e.getMessage(), e);
+		return toResponseEntity(servletExceptionEnum, new ErrorResponse(servletExceptionEnum, e.getLocalizedMessage()));
+	}
+
+
+	/**
+	 * 参数绑定异常
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler(value = BindException.class)
+	public ResponseEntity<ErrorResponse> handleBindException(BindException e) {
+		return wrapperBindingResult(e, e.getBindingResult());
+	}
+
+	/**
+	 * 方法参数异常，将校验失败的所有异常组合成一条错误信息
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler(value = MethodArgumentNotValidException.class)
+	public ResponseEntity<ErrorResponse> handleValidException(MethodArgumentNotValidException e) {
+		return wrapperBindingResult(e, e.getBindingResult());
+	}
+
+	/**
+	 * 包装绑定异常结果，明细数量及日志长度有上限，参见 {@link FieldErrorAggregator}
+	 *
+	 * @param e             异常
+	 * @param bindingResult 绑定结果
+	 * @return 异常结果
+	 */
+	private ResponseEntity<ErrorResponse> wrapperBindingResult(Exception e, BindingResult bindingResult) {
+		CommonResponseEnum responseEnum = CommonResponseEnum.VALIDATE_FAILED;
+		ErrorResponse body = fieldErrorAggregator.aggregate(responseEnum, bindingResult.getAllErrors(),
+				MessageUtils.getMessageResolver(), LocaleContextHolder.getLocale());
+		// 只记录截断后的消息，不调用异常的 getMessage()，不输出 Spring 对所有校验失败的完整描述及调用栈
+		journal(responseEnum, e, body.getMessage());
+		logger.error(responseEnum.getFullCode() + ", " + body.getMessage());
+		return toResponseEntity(responseEnum, body);
+	}
+
+	@ExceptionHandler(value = DuplicateKeyException.class)
+	public ResponseEntity<ErrorResponse> handleException(DuplicateKeyException e) {
+		DbResponseEnum responseEnum = DbResponseEnum.DUPLICATED_KEY_ERROR;
+		journal(responseEnum, e);
+		if (isDegraded(responseEnum)) {
+			return degradedResponse(responseEnum);
+		}
+		logger.error(e.getMessage(), e);
+		return toResponseEntity(responseEnum);
+	}
+
+	/**
+	 * 数据库异常，按是否可以重试分类，参见 {@link DbExceptionClassifier}
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler(value = DataAccessException.class)
+	public ResponseEntity<ErrorResponse> handleException(DataAccessException e) {
+		return handleDbException(e);
+	}
+
+	@ExceptionHandler(value = SQLException.class)
+	public ResponseEntity<ErrorResponse> handleException(SQLException e) {
+		return handleDbException(e);
+	}
+
+	/**
+	 * 可以重试的暂时性错误只记录一行日志，不输出调用栈
+	 */
+	private ResponseEntity<ErrorResponse> handleDbException(Exception e) {
+		DbResponseEnum responseEnum = DbExceptionClassifier.classify(e);
+		journal(responseEnum, e);
+		if (isDegraded(responseEnum)) {
+			return degradedResponse(responseEnum);
+		}
+		if (responseEnum.isRetryable()) {
+			logger.warn(responseEnum.getFullCode() + ", " + e.getMessage());
+		} else {
+			logger.error(e.getMessage(), e);
+		}
+		return toResponseEntity(responseEnum);
+	}
+
+	/**
+	 * 异步调用包装的异常，如 CompletableFuture 抛出的 {@link CompletionException}，解包后按原始异常处理
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler({
+			CompletionException.class,
+			ExecutionException.class,
+			UndeclaredThrowableException.class
+	})
+	public ResponseEntity<ErrorResponse> handleAsyncWrapperException(Exception e) {
+		Throwable cause = unwrap(e);
+		if (cause instanceof CompositeBusinessException) {
+			return handleCompositeBusinessException((CompositeBusinessException) cause);
+		}
+		if (cause instanceof DeadlineExceededException) {
+			return handleDeadlineExceededException((DeadlineExceededException) cause);
+		}
+		if (cause instanceof BusinessException) {
+			return handleBusinessException((BusinessException) cause);
+		}
+		if (cause instanceof BaseException) {
+			return handleBaseException((BaseException) cause);
+		}
+		if (cause instanceof MethodArgumentNotValidException) {
+			return handleValidException((MethodArgumentNotValidException) cause);
+		}
+		if (cause instanceof BindException) {
+			return handleBindException((BindException) cause);
+		}
+		if (cause instanceof DuplicateKeyException) {
+			return handleException((DuplicateKeyException) cause);
+		}
+		if (cause instanceof DataAccessException) {
+			return handleException((DataAccessException) cause);
+		}
+		if (cause instanceof SQLException) {
+			return handleException((SQLException) cause);
+		}
+		for (Class<?> servletException : SERVLET_EXCEPTIONS) {
+			if (servletException.isInstance(cause)) {
+				return handleServletException((Exception) cause);
+			}
+		}
+		return handleException(cause instanceof Exception ? (Exception) cause : e);
+	}
+
+	/**
+	 * 逐层解包异步调用包装的异常，最多解包 {@link #MAX_UNWRAP_DEPTH} 层
+	 *
+	 * @param e 异常
+	 * @return 原始异常，无法继续解包时返回最后一个包装异常
+	 */
+	private static Throwable unwrap(Throwable e) {
+		Throwable current = e;
+		for (int depth = 0; depth < MAX_UNWRAP_DEPTH && isAsyncWrapper(current); depth++) {
+			Throwable cause = current.getCause();
+			if (cause == null || cause == current) {
+				break;
+			}
+			current = cause;
+		}
+		return current;
+	}
+
+	private static boolean isAsyncWrapper(Throwable e) {
+		return e instanceof CompletionException || e instanceof ExecutionException
+				|| e instanceof UndeclaredThrowableException;
+	}
+
+	/**
+	 * 未定义异常
+	 *
+	 * @param e 异常
+	 * @return 异常结果
+	 */
+	@ExceptionHandler(value = Exception.class)
+	public ResponseEntity<ErrorResponse> handleException(Exception e) {
+		if (ClientAbortDetector.isClientAbort(e)) {
+			return clientAborted(e);
+		}
+		HttpStatusEnum responseEnum = HttpStatusEnum.INTERNAL_SERVER_ERROR;
+		journal(responseEnum, e);
+		if (isDegraded(responseEnum)) {
+			return degradedResponse(responseEnum);
+		}
+		logger.error(e.getMessage(), e);
+		return toResponseEntity(responseEnum);
+	}
+
+	/**
+	 * 客户端已断开连接，只计数并在调试级别记录日志，不再写出错误返回信息
+	 *
+	 * @param e 异常
+	 * @return null，表示请求已处理
+	 */
+	private ResponseEntity<ErrorResponse> clientAborted(Exception e) {
+		clientAborts.increment();
+		if (logger.isDebugEnabled()) {
+			logger.debug("client aborted: {}", e.toString());
+		}
+		return null;
+	}
+
+	/**
+	 * 将错误追加到错误日志环形文件，未配置 {@link ErrorJournal} 时忽略
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param e            异常
+	 */
+	private void journal(IResponseEnum responseEnum, Throwable e) {
+		if (errorJournal != null) {
+			journal(responseEnum, e, e.getMessage());
+		}
+	}
+
+	/**
+	 * 将错误追加到错误日志环形文件，使用指定的消息，未配置 {@link ErrorJournal} 时忽略
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param e            异常
+	 * @param message      消息
+	 */
+	private void journal(IResponseEnum responseEnum, Throwable e, String message) {
+		ErrorJournal journal = errorJournal;
+		if (journal == null) {
+			return;
+		}
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		String path = attributes instanceof ServletRequestAttributes
+				? ((ServletRequestAttributes) attributes).getRequest().getRequestURI() : null;
+		journal.append(responseEnum, e, message, path);
+	}
+
+	/**
+	 * 记录一次错误，并判断该错误码是否处于错误风暴的降级模式
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @return 是否处于降级模式，未配置 {@link ErrorStormDetector} 时总是返回 false
+	 */
+	private boolean isDegraded(IResponseEnum responseEnum) {
+		ErrorStormDetector detector = errorStormDetector;
+		return detector != null && detector.record(responseEnum);
+	}
+
+	/**
+	 * 降级模式下的错误返回结果，每个错误码只构造一次
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @return 缓存的异常结果
+	 */
+	private ResponseEntity<ErrorResponse> degradedResponse(IResponseEnum responseEnum) {
+		markErrorCode(responseEnum);
+		return degradedResponses.computeIfAbsent(responseEnum.getFullCode(), code -> toResponseEntity(responseEnum));
+	}
+
+	/**
+	 * 构造错误返回结果
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @return 异常结果
+	 */
+	private ResponseEntity<ErrorResponse> toResponseEntity(IResponseEnum responseEnum) {
+		return toResponseEntity(responseEnum, new ErrorResponse(responseEnum));
+	}
+
+	/**
+	 * 构造错误返回结果，HTTP 状态码及缓存相关响应头由返回信息枚举决定
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param body         错误返回信息
+	 * @return 异常结果
+	 */
+	private ResponseEntity<ErrorResponse> toResponseEntity(IResponseEnum responseEnum, ErrorResponse body) {
+		markErrorCode(responseEnum);
+		ResponseEntity.BodyBuilder builder = ResponseEntity.status(responseEnum.getHttpStatus());
+		String cacheControl = responseEnum.getCacheControl();
+		if (cacheControl != null) {
+			builder.header(HttpHeaders.CACHE_CONTROL, cacheControl);
+		}
+		int retryAfter = responseEnum.getRetryAfter();
+		if (retryAfter >= 0) {
+			builder.header(HttpHeaders.RETRY_AFTER, Integer.toString(retryAfter));
+		}
+		return builder.body(body);
+	}
+
+	/**
+	 * 将错误码写入请求属性 {@link #ATTR_ERROR_CODE}
+	 *
+	 * @param responseEnum 返回信息枚举
+	 */
+	private static void markErrorCode(IResponseEnum responseEnum) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (attributes != null) {
+			attributes.setAttribute(ATTR_ERROR_CODE, responseEnum.getFullCode(), RequestAttributes.SCOPE_REQUEST);
+		}
+	}
+}
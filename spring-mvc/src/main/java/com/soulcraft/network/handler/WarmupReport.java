@@ -0,0 +1,51 @@
+package com.soulcraft.network.handler;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <p>
+ * 错误处理预热结果，参见 {@link ErrorHandlerWarmup}
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Getter
+@AllArgsConstructor
+public class WarmupReport {
+	/**
+	 * 检查的返回信息数
+	 */
+	private final int responseEnumCount;
+	/**
+	 * 检查的语言环境
+	 */
+	private final List<Locale> locales;
+	/**
+	 * 找不到的消息，格式为 “消息Key [语言环境]”
+	 */
+	private final List<String> missingMessages;
+	/**
+	 * 执行的错误处理路径数
+	 */
+	private final int handlerPaths;
+	/**
+	 * 执行失败的错误处理路径及失败原因
+	 */
+	private final List<String> failedPaths;
+	/**
+	 * 预热耗时，单位毫秒
+	 */
+	private final long elapsedMillis;
+
+	/**
+	 * @return 所有消息都能找到且所有错误处理路径都执行成功
+	 */
+	public boolean isClean() {
+		return missingMessages.isEmpty() && failedPaths.isEmpty();
+	}
+}
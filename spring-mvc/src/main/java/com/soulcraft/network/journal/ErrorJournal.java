@@ -0,0 +1,322 @@
+package com.soulcraft.network.journal;
+
+import com.soulcraft.network.resp.IResponseEnum;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * 错误日志环形文件，以固定长度的二进制记录保存最近的错误，供事后分析使用
+ * </p>
+ * <p>
+ * 文件通过内存映射写入，写入的数据在进程崩溃后仍然保留（操作系统崩溃除外，需要时调用 {@link #flush()}）。
+ * 写入位置由原子计数器分配，追加操作无锁；写满后从头覆盖最旧的记录。
+ * 错误码及异常类名在文件的字典区只保存一次，记录中只保存其编号。
+ * 文件由 {@link ErrorJournalReader} 离线解析。
+ * </p>
+ * <pre>
+ *     文件结构：
+ *     文件头    {@value #HEADER_SIZE} 字节
+ *     字典区    字典容量 * {@value #DICTIONARY_ENTRY_SIZE} 字节，每项为 2 字节长度 + UTF-8 字符串
+ *     记录区    记录容量 * {@value #RECORD_SIZE} 字节
+ *
+ *     记录结构：
+ *     0   long   序号，从 1 开始，0 表示空记录或正在写入
+ *     8   long   时间戳，单位毫秒
+ *     16  long   异常指纹，由异常类名及前几层调用栈计算
+ *     24  int    错误码编号，字典已满时为 -1
+ *     28  int    异常类名编号，字典已满时为 -1
+ *     32  short  消息长度
+ *     34  short  请求路径长度
+ *     36  byte[] 消息，UTF-8 编码，最多 {@value #MAX_MESSAGE_BYTES} 字节
+ *     192 byte[] 请求路径，UTF-8 编码，最多 {@value #MAX_PATH_BYTES} 字节
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class ErrorJournal implements Closeable {
+	static final int MAGIC = 0x45524A31;
+	static final int VERSION = 1;
+	static final int HEADER_SIZE = 64;
+	static final int DICTIONARY_ENTRY_SIZE = 128;
+	static final int RECORD_SIZE = 256;
+	static final int MAX_MESSAGE_BYTES = 156;
+	static final int MAX_PATH_BYTES = 64;
+
+	static final int OFFSET_SEQUENCE = 0;
+	static final int OFFSET_TIMESTAMP = 8;
+	static final int OFFSET_FINGERPRINT = 16;
+	static final int OFFSET_CODE = 24;
+	static final int OFFSET_CLASS = 28;
+	static final int OFFSET_MESSAGE_LENGTH = 32;
+	static final int OFFSET_PATH_LENGTH = 34;
+	static final int OFFSET_MESSAGE = 36;
+	static final int OFFSET_PATH = OFFSET_MESSAGE + MAX_MESSAGE_BYTES;
+
+	/**
+	 * 计算指纹使用的调用栈层数
+	 */
+	private static final int FINGERPRINT_FRAMES = 4;
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final FileChannel channel;
+	private final MappedByteBuffer buffer;
+	private final int capacity;
+	private final int dictionaryCapacity;
+	private final int recordsOffset;
+	private final AtomicLong cursor;
+	private final AtomicInteger dictionarySize;
+	private final Map<String, Integer> dictionary = new ConcurrentHashMap<>();
+
+	/**
+	 * 打开错误日志文件，记录容量 65536 条（16MB），字典容量 1024 项
+	 *
+	 * @param file 文件路径
+	 * @throws IOException 打开文件失败
+	 */
+	public ErrorJournal(Path file) throws IOException {
+		this(file, 1 << 16, 1024);
+	}
+
+	/**
+	 * 打开错误日志文件，文件已存在且结构一致时继续追加，否则重新初始化
+	 *
+	 * @param file               文件路径
+	 * @param capacity           记录容量
+	 * @param dictionaryCapacity 字典容量
+	 * @throws IOException 打开文件失败
+	 */
+	public ErrorJournal(Path file, int capacity, int dictionaryCapacity) throws IOException {
+		long size = (long) HEADER_SIZE + (long) dictionaryCapacity * DICTIONARY_ENTRY_SIZE + (long) capacity * RECORD_SIZE;
+		if (capacity <= 0 || dictionaryCapacity <= 0 || size > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("invalid journal capacity: " + capacity + ", dictionary: " + dictionaryCapacity);
+		}
+		this.capacity = capacity;
+		this.dictionaryCapacity = dictionaryCapacity;
+		this.recordsOffset = HEADER_SIZE + dictionaryCapacity * DICTIONARY_ENTRY_SIZE;
+		this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		try {
+			boolean reuse = channel.size() == size;
+			this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			if (!reuse || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION || buffer.getInt(8) != RECORD_SIZE
+					|| buffer.getInt(12) != capacity || buffer.getInt(16) != dictionaryCapacity
+					|| buffer.getInt(20) != DICTIONARY_ENTRY_SIZE) {
+				initialize();
+			}
+			this.dictionarySize = new AtomicInteger(loadDictionary());
+			this.cursor = new AtomicLong(lastSequence() + 1);
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * 追加一条错误记录
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param e            异常，可以为 null
+	 * @param path         请求路径，可以为 null
+	 */
+	public void append(IResponseEnum responseEnum, Throwable e, String path) {
+		append(responseEnum, e, e == null ? null : e.getMessage(), path);
+	}
+
+	/**
+	 * 追加一条错误记录，使用指定的消息，不调用异常的 getMessage()；
+	 * 用于消息由大量明细组成的异常，如参数校验失败，只记录已截断的消息
+	 *
+	 * @param responseEnum 返回信息枚举
+	 * @param e            异常，可以为 null
+	 * @param message      消息，可以为 null
+	 * @param path         请求路径，可以为 null
+	 */
+	public void append(IResponseEnum responseEnum, Throwable e, String message, String path) {
+		int codeId = id(responseEnum.getFullCode());
+		int classId = e == null ? -1 : id(e.getClass().getName());
+		long fingerprint = fingerprint(responseEnum, e);
+		byte[] messageBytes = truncate(message, MAX_MESSAGE_BYTES);
+		byte[] pathBytes = truncate(path, MAX_PATH_BYTES);
+
+		long sequence = cursor.getAndIncrement();
+		int offset = recordsOffset + (int) ((sequence - 1) % capacity) * RECORD_SIZE;
+		// 先清除序号，写完其他字段后再写入序号，未写完的记录不会被读取
+		buffer.putLong(offset + OFFSET_SEQUENCE, 0L);
+		buffer.putLong(offset + OFFSET_TIMESTAMP, System.currentTimeMillis());
+		buffer.putLong(offset + OFFSET_FINGERPRINT, fingerprint);
+		buffer.putInt(offset + OFFSET_CODE, codeId);
+		buffer.putInt(offset + OFFSET_CLASS, classId);
+		buffer.putShort(offset + OFFSET_MESSAGE_LENGTH, (short) messageBytes.length);
+		buffer.putShort(offset + OFFSET_PATH_LENGTH, (short) pathBytes.length);
+		put(offset + OFFSET_MESSAGE, messageBytes);
+		put(offset + OFFSET_PATH, pathBytes);
+		buffer.putLong(offset + OFFSET_SEQUENCE, sequence);
+	}
+
+	/**
+	 * @return 已追加的记录数，包括已被覆盖的记录
+	 */
+	public long getAppendedCount() {
+		return cursor.get() - 1;
+	}
+
+	/**
+	 * @return 记录容量
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * 将修改写回磁盘
+	 */
+	public void flush() {
+		buffer.force();
+	}
+
+	@Override
+	public void close() throws IOException {
+		flush();
+		channel.close();
+	}
+
+	private void initialize() {
+		for (int i = 0; i < buffer.capacity(); i += 8) {
+			buffer.putLong(i, 0L);
+		}
+		buffer.putInt(0, MAGIC);
+		buffer.putInt(4, VERSION);
+		buffer.putInt(8, RECORD_SIZE);
+		buffer.putInt(12, capacity);
+		buffer.putInt(16, dictionaryCapacity);
+		buffer.putInt(20, DICTIONARY_ENTRY_SIZE);
+	}
+
+	private int loadDictionary() {
+		int size = 0;
+		while (size < dictionaryCapacity) {
+			String value = readString(buffer, HEADER_SIZE + size * DICTIONARY_ENTRY_SIZE);
+			if (value == null) {
+				break;
+			}
+			dictionary.putIfAbsent(value, size);
+			size++;
+		}
+		return size;
+	}
+
+	private long lastSequence() {
+		long last = 0L;
+		for (int slot = 0; slot < capacity; slot++) {
+			long sequence = buffer.getLong(recordsOffset + slot * RECORD_SIZE + OFFSET_SEQUENCE);
+			if (sequence > last) {
+				last = sequence;
+			}
+		}
+		return last;
+	}
+
+	/**
+	 * 字符串在字典中的编号，第一次出现时写入字典区
+	 */
+	private int id(String value) {
+		Integer id = dictionary.get(value);
+		if (id != null) {
+			return id;
+		}
+		return dictionary.computeIfAbsent(value, v -> {
+			int next = dictionarySize.getAndIncrement();
+			if (next >= dictionaryCapacity) {
+				return -1;
+			}
+			int offset = HEADER_SIZE + next * DICTIONARY_ENTRY_SIZE;
+			byte[] bytes = truncate(v, DICTIONARY_ENTRY_SIZE - 2);
+			put(offset + 2, bytes);
+			buffer.putShort(offset, (short) bytes.length);
+			return next;
+		});
+	}
+
+	private void put(int offset, byte[] bytes) {
+		for (int i = 0; i < bytes.length; i++) {
+			buffer.put(offset + i, bytes[i]);
+		}
+	}
+
+	/**
+	 * 由错误码、异常类名及前几层调用栈计算的 FNV-1a 指纹
+	 */
+	private static long fingerprint(IResponseEnum responseEnum, Throwable e) {
+		long hash = hash(FNV_OFFSET_BASIS, responseEnum.getFullCode());
+		if (e == null) {
+			return hash;
+		}
+		hash = hash(hash, e.getClass().getName());
+		StackTraceElement[] stackTrace = e.getStackTrace();
+		for (int i = 0; i < stackTrace.length && i < FINGERPRINT_FRAMES; i++) {
+			hash = hash(hash, stackTrace[i].getClassName());
+			hash = hash(hash, stackTrace[i].getMethodName());
+			hash = (hash ^ stackTrace[i].getLineNumber()) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private static long hash(long hash, String value) {
+		for (int i = 0; i < value.length(); i++) {
+			hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+		}
+		return hash;
+	}
+
+	/**
+	 * UTF-8 编码并截断，不截断多字节字符
+	 */
+	static byte[] truncate(String value, int maxBytes) {
+		if (value == null) {
+			return new byte[0];
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length <= maxBytes) {
+			return bytes;
+		}
+		int length = maxBytes;
+		while (length > 0 && (bytes[length] & 0xC0) == 0x80) {
+			length--;
+		}
+		byte[] truncated = new byte[length];
+		System.arraycopy(bytes, 0, truncated, 0, length);
+		return truncated;
+	}
+
+	/**
+	 * 读取 2 字节长度 + UTF-8 编码的字符串，长度为 0 时返回 null
+	 */
+	static String readString(ByteBuffer buffer, int offset) {
+		int length = buffer.getShort(offset);
+		if (length <= 0) {
+			return null;
+		}
+		return readString(buffer, offset + 2, length);
+	}
+
+	static String readString(ByteBuffer buffer, int offset, int length) {
+		byte[] bytes = new byte[length];
+		for (int i = 0; i < length; i++) {
+			bytes[i] = buffer.get(offset + i);
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,111 @@
+package com.soulcraft.network.journal;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * <p>
+ * 错误日志文件的离线解析工具
+ * </p>
+ * <p>
+ * 只读打开文件，可以在应用运行时或崩溃后解析，正在写入的记录会被跳过。
+ * </p>
+ * <pre>
+ *     java -cp sc-response-and-error-handler.jar com.soulcraft.network.journal.ErrorJournalReader errors.journal
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class ErrorJournalReader {
+	private ErrorJournalReader() {
+	}
+
+	/**
+	 * 解析错误日志文件
+	 *
+	 * @param file 文件路径
+	 * @return 错误记录，按序号从旧到新排列
+	 * @throws IOException 读取文件失败或文件格式不正确
+	 */
+	public static List<ErrorRecord> read(Path file) throws IOException {
+		ByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (buffer.capacity() < ErrorJournal.HEADER_SIZE || buffer.getInt(0) != ErrorJournal.MAGIC
+				|| buffer.getInt(4) != ErrorJournal.VERSION) {
+			throw new IOException("not an error journal: " + file);
+		}
+		int recordSize = buffer.getInt(8);
+		int capacity = buffer.getInt(12);
+		int dictionaryCapacity = buffer.getInt(16);
+		int dictionaryEntrySize = buffer.getInt(20);
+		int recordsOffset = ErrorJournal.HEADER_SIZE + dictionaryCapacity * dictionaryEntrySize;
+		if (recordSize != ErrorJournal.RECORD_SIZE || (long) recordsOffset + (long) capacity * recordSize > buffer.capacity()) {
+			throw new IOException("corrupted error journal: " + file);
+		}
+
+		String[] dictionary = new String[dictionaryCapacity];
+		for (int i = 0; i < dictionaryCapacity; i++) {
+			dictionary[i] = ErrorJournal.readString(buffer, ErrorJournal.HEADER_SIZE + i * dictionaryEntrySize);
+		}
+
+		List<ErrorRecord> records = new ArrayList<>();
+		for (int slot = 0; slot < capacity; slot++) {
+			int offset = recordsOffset + slot * recordSize;
+			long sequence = buffer.getLong(offset + ErrorJournal.OFFSET_SEQUENCE);
+			if (sequence <= 0 || (sequence - 1) % capacity != slot) {
+				continue;
+			}
+			int messageLength = Math.min(buffer.getShort(offset + ErrorJournal.OFFSET_MESSAGE_LENGTH), ErrorJournal.MAX_MESSAGE_BYTES);
+			int pathLength = Math.min(buffer.getShort(offset + ErrorJournal.OFFSET_PATH_LENGTH), ErrorJournal.MAX_PATH_BYTES);
+			records.add(new ErrorRecord(sequence,
+					buffer.getLong(offset + ErrorJournal.OFFSET_TIMESTAMP),
+					lookup(dictionary, buffer.getInt(offset + ErrorJournal.OFFSET_CODE)),
+					lookup(dictionary, buffer.getInt(offset + ErrorJournal.OFFSET_CLASS)),
+					buffer.getLong(offset + ErrorJournal.OFFSET_FINGERPRINT),
+					ErrorJournal.readString(buffer, offset + ErrorJournal.OFFSET_MESSAGE, Math.max(messageLength, 0)),
+					ErrorJournal.readString(buffer, offset + ErrorJournal.OFFSET_PATH, Math.max(pathLength, 0))));
+		}
+		records.sort(Comparator.comparingLong(ErrorRecord::getSequence));
+		return records;
+	}
+
+	/**
+	 * 以制表符分隔的文本输出错误记录，每行一条
+	 *
+	 * @param records 错误记录
+	 * @param out     输出流
+	 */
+	public static void print(List<ErrorRecord> records, PrintStream out) {
+		SimpleDateFormat format = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+		for (ErrorRecord record : records) {
+			out.println(record.getSequence() + "\t" + format.format(new Date(record.getTimestamp())) + "\t"
+					+ record.getFullCode() + "\t" + record.getExceptionClass() + "\t"
+					+ Long.toHexString(record.getFingerprint()) + "\t" + record.getPath() + "\t" + record.getMessage());
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.err.println("usage: ErrorJournalReader <journal-file>");
+			System.exit(1);
+		}
+		print(read(Paths.get(args[0])), System.out);
+	}
+
+	private static String lookup(String[] dictionary, int id) {
+		return id >= 0 && id < dictionary.length ? dictionary[id] : null;
+	}
+}
@@ -0,0 +1,45 @@
+package com.soulcraft.network.journal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * <p>
+ * 从错误日志文件中解析出的一条错误记录
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Getter
+@AllArgsConstructor
+public class ErrorRecord {
+	/**
+	 * 序号，从 1 开始
+	 */
+	private final long sequence;
+	/**
+	 * 时间戳，单位毫秒
+	 */
+	private final long timestamp;
+	/**
+	 * 整个错误码信息，字典已满时为 null
+	 */
+	private final String fullCode;
+	/**
+	 * 异常类名，没有异常或字典已满时为 null
+	 */
+	private final String exceptionClass;
+	/**
+	 * 异常指纹，相同错误码、异常类及调用位置的异常指纹相同
+	 */
+	private final long fingerprint;
+	/**
+	 * 截断后的异常消息
+	 */
+	private final String message;
+	/**
+	 * 截断后的请求路径
+	 */
+	private final String path;
+}
@@ -0,0 +1,47 @@
+package com.soulcraft.network.slo;
+
+import com.soulcraft.network.resp.R;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseBody;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * 只读的 SLO 查询接口
+ * </p>
+ * <p>
+ * 不会被组件扫描自动注册，需要时手工声明为 Bean：
+ * </p>
+ * <pre>
+ *     &#64;Bean
+ *     public SloController sloController(SloTracker sloTracker) {
+ *         return new SloController(sloTracker);
+ *     }
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@ResponseBody
+@RequestMapping("/_slo")
+public class SloController {
+	private final SloTracker tracker;
+
+	public SloController(SloTracker tracker) {
+		this.tracker = tracker;
+	}
+
+	/**
+	 * 所有 Controller 方法的 SLO 数据
+	 *
+	 * @param window 统计窗口
+	 * @return Controller 方法及其 SLO 数据
+	 */
+	@GetMapping
+	public R<Map<String, SloSnapshot>> snapshots(@RequestParam(defaultValue = "ONE_MINUTE") SloWindow window) {
+		return R.success(tracker.snapshots(window));
+	}
+}
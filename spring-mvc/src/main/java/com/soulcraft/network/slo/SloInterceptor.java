@@ -0,0 +1,105 @@
+package com.soulcraft.network.slo;
+
+import com.soulcraft.network.handler.UnifiedExceptionHandler;
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.resp.ResponseEnumRegistry;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntPredicate;
+
+/**
+ * <p>
+ * SLO 统计拦截器，参见 {@link SloTracker}
+ * </p>
+ * <p>
+ * 错误码取自 {@link UnifiedExceptionHandler} 写入的请求属性 {@link UnifiedExceptionHandler#ATTR_ERROR_CODE}；
+ * 没有错误码但 HTTP 状态码不低于 500 时以 HTTP 状态码作为错误码。
+ * 所有错误码都计入各错误码的失败数，但默认只有 HTTP 状态码不低于 500 的错误消耗错误预算，
+ * RECORD_NOT_FOUND、VALIDATE_FAILED 等 4xx 错误由客户端引起，不计入失败请求数，可以通过构造参数修改。
+ * </p>
+ * <p>
+ * Controller 方法以声明类的全名、方法名及参数类型标识，如 com.example.UserController#get(java.lang.Long)。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class SloInterceptor implements AsyncHandlerInterceptor {
+	private static final String ATTR_START = SloInterceptor.class.getName() + ".start";
+
+	private final SloTracker tracker;
+	private final IntPredicate budgetErrorStatus;
+	private final Map<Method, String> endpoints = new ConcurrentHashMap<>();
+
+	/**
+	 * 只有 5xx 消耗错误预算
+	 *
+	 * @param tracker SLO 统计
+	 */
+	public SloInterceptor(SloTracker tracker) {
+		this(tracker, status -> status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+	}
+
+	/**
+	 * @param tracker           SLO 统计
+	 * @param budgetErrorStatus 按错误的 HTTP 状态码判断是否消耗错误预算
+	 */
+	public SloInterceptor(SloTracker tracker, IntPredicate budgetErrorStatus) {
+		this.tracker = tracker;
+		this.budgetErrorStatus = budgetErrorStatus;
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		// 异步请求再次分发时保留第一次分发的开始时间
+		if (handler instanceof HandlerMethod && request.getAttribute(ATTR_START) == null) {
+			request.setAttribute(ATTR_START, System.nanoTime());
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		Object start = request.getAttribute(ATTR_START);
+		if (!(start instanceof Long) || !(handler instanceof HandlerMethod)) {
+			return;
+		}
+		request.removeAttribute(ATTR_START);
+		long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) start);
+		Object errorCode = request.getAttribute(UnifiedExceptionHandler.ATTR_ERROR_CODE);
+		String code = errorCode instanceof String ? (String) errorCode : null;
+		int status = ex != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+		if (code == null && status >= HttpServletResponse.SC_INTERNAL_SERVER_ERROR) {
+			code = "HTTP-" + status;
+		} else if (code != null) {
+			IResponseEnum responseEnum = ResponseEnumRegistry.find(code);
+			if (responseEnum != null) {
+				status = responseEnum.getHttpStatus();
+			}
+		}
+		tracker.record(endpoint((HandlerMethod) handler), latency, code, code != null && budgetErrorStatus.test(status));
+	}
+
+	private String endpoint(HandlerMethod handlerMethod) {
+		return endpoints.computeIfAbsent(handlerMethod.getMethod(), SloInterceptor::endpointName);
+	}
+
+	/**
+	 * 声明类的全名、方法名及参数类型，重载方法及不同包中的同名 Controller 不会合并
+	 */
+	private static String endpointName(Method method) {
+		StringBuilder name = new StringBuilder(method.getDeclaringClass().getName()).append('#').append(method.getName()).append('(');
+		Class<?>[] parameterTypes = method.getParameterTypes();
+		for (int i = 0; i < parameterTypes.length; i++) {
+			name.append(i == 0 ? "" : ",").append(parameterTypes[i].getTypeName());
+		}
+		return name.append(')').toString();
+	}
+}
@@ -0,0 +1,54 @@
+package com.soulcraft.network.slo;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * <p>
+ * 一个 Controller 方法在一个统计窗口内的 SLO 数据
+ * </p>
+ * <p>
+ * 耗时分位数取自以 2 的幂为边界的直方图，为所在区间的上界，单位毫秒。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Getter
+@AllArgsConstructor
+public class SloSnapshot {
+	/**
+	 * 统计窗口
+	 */
+	private final SloWindow window;
+	/**
+	 * 请求数
+	 */
+	private final long requests;
+	/**
+	 * 消耗错误预算的失败请求数，默认只包括 5xx
+	 */
+	private final long errors;
+	/**
+	 * 消耗错误预算的失败比例，没有请求时为 0
+	 */
+	private final double errorRatio;
+	/**
+	 * 耗时 50 分位数
+	 */
+	private final long latencyP50Millis;
+	/**
+	 * 耗时 90 分位数
+	 */
+	private final long latencyP90Millis;
+	/**
+	 * 耗时 99 分位数
+	 */
+	private final long latencyP99Millis;
+	/**
+	 * 各错误码的失败请求数，包括不消耗错误预算的错误码
+	 */
+	private final Map<String, Long> errorCodes;
+}
@@ -0,0 +1,175 @@
+package com.soulcraft.network.slo;
+
+import com.soulcraft.network.util.SlidingWindowCounter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * 进程内的 SLO 统计，按 Controller 方法记录请求数、各错误码的失败数及耗时分布
+ * </p>
+ * <p>
+ * 失败请求数只包括消耗错误预算的错误（由调用方决定，{@link SloInterceptor} 默认只计入 5xx），
+ * 各错误码的失败数包括所有错误码，如 4xx 的业务及参数校验错误。
+ * </p>
+ * <p>
+ * 每个 Controller 方法在每个 {@link SloWindow} 中各占用固定大小的内存，每个方法最多单独统计
+ * {@value #MAX_ERROR_CODES} 个错误码，其余错误码计入 {@value #OTHER_ERROR_CODE}。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class SloTracker {
+	/**
+	 * 每个 Controller 方法单独统计的错误码数量上限
+	 */
+	public static final int MAX_ERROR_CODES = 64;
+	/**
+	 * 超出上限的错误码
+	 */
+	public static final String OTHER_ERROR_CODE = "OTHER";
+
+	private static final int COLUMN_REQUESTS = 0;
+	private static final int COLUMN_ERRORS = 1;
+	private static final int COLUMN_LATENCY = 2;
+	/**
+	 * 耗时直方图的区间数：[0, 1ms)、[1ms, 2ms)、[2ms, 4ms) …… [16s, +∞)
+	 */
+	private static final int LATENCY_BINS = 16;
+	private static final int WIDTH = COLUMN_LATENCY + LATENCY_BINS;
+	private static final SloWindow[] WINDOWS = SloWindow.values();
+
+	private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+	/**
+	 * 记录一次请求，有错误码时计入失败请求数
+	 *
+	 * @param endpoint      Controller 方法
+	 * @param latencyMillis 耗时，单位毫秒
+	 * @param errorCode     错误码，成功时为 null
+	 */
+	public void record(String endpoint, long latencyMillis, String errorCode) {
+		record(endpoint, latencyMillis, errorCode, errorCode != null);
+	}
+
+	/**
+	 * 记录一次请求
+	 *
+	 * @param endpoint      Controller 方法
+	 * @param latencyMillis 耗时，单位毫秒
+	 * @param errorCode     错误码，成功时为 null
+	 * @param budgetError   是否计入失败请求数，为 false 时错误码只计入各错误码的失败数
+	 */
+	public void record(String endpoint, long latencyMillis, String errorCode, boolean budgetError) {
+		EndpointStats stats = endpoints.computeIfAbsent(endpoint, e -> new EndpointStats());
+		long now = SlidingWindowCounter.now();
+		int bin = latencyBin(latencyMillis);
+		for (int i = 0; i < WINDOWS.length; i++) {
+			SlidingWindowCounter window = stats.windows[i];
+			int bucket = window.bucket(now);
+			window.add(bucket, COLUMN_REQUESTS, 1L);
+			window.add(bucket, COLUMN_LATENCY + bin, 1L);
+			if (budgetError) {
+				window.add(bucket, COLUMN_ERRORS, 1L);
+			}
+		}
+		if (errorCode != null) {
+			SlidingWindowCounter[] codeWindows = stats.errorCodes.get(errorCode);
+			if (codeWindows == null) {
+				String key = stats.errorCodes.size() < MAX_ERROR_CODES ? errorCode : OTHER_ERROR_CODE;
+				codeWindows = stats.errorCodes.computeIfAbsent(key, k -> newWindows(1));
+			}
+			for (SlidingWindowCounter window : codeWindows) {
+				window.add(now, 1L);
+			}
+		}
+	}
+
+	/**
+	 * 获取一个 Controller 方法的 SLO 数据
+	 *
+	 * @param endpoint Controller 方法
+	 * @param window   统计窗口
+	 * @return SLO 数据，没有请求记录时返回 null
+	 */
+	public SloSnapshot snapshot(String endpoint, SloWindow window) {
+		EndpointStats stats = endpoints.get(endpoint);
+		return stats == null ? null : snapshot(stats, window, SlidingWindowCounter.now());
+	}
+
+	/**
+	 * 获取所有 Controller 方法的 SLO 数据
+	 *
+	 * @param window 统计窗口
+	 * @return Controller 方法及其 SLO 数据，按 Controller 方法排序
+	 */
+	public Map<String, SloSnapshot> snapshots(SloWindow window) {
+		long now = SlidingWindowCounter.now();
+		Map<String, SloSnapshot> snapshots = new TreeMap<>();
+		for (Map.Entry<String, EndpointStats> entry : endpoints.entrySet()) {
+			snapshots.put(entry.getKey(), snapshot(entry.getValue(), window, now));
+		}
+		return snapshots;
+	}
+
+	private static SloSnapshot snapshot(EndpointStats stats, SloWindow window, long now) {
+		long[] totals = stats.windows[window.ordinal()].sums(now);
+		long requests = totals[COLUMN_REQUESTS];
+		long errors = totals[COLUMN_ERRORS];
+		Map<String, Long> errorCodes = new LinkedHashMap<>();
+		for (Map.Entry<String, SlidingWindowCounter[]> entry : stats.errorCodes.entrySet()) {
+			long count = entry.getValue()[window.ordinal()].sum(now);
+			if (count > 0) {
+				errorCodes.put(entry.getKey(), count);
+			}
+		}
+		return new SloSnapshot(window, requests, errors, requests == 0 ? 0D : (double) errors / requests,
+				percentile(totals, requests, 0.5D), percentile(totals, requests, 0.9D),
+				percentile(totals, requests, 0.99D), errorCodes);
+	}
+
+	/**
+	 * 耗时分位数，取所在区间的上界
+	 */
+	private static long percentile(long[] totals, long requests, double quantile) {
+		if (requests == 0) {
+			return 0L;
+		}
+		long target = (long) Math.ceil(requests * quantile);
+		long cumulative = 0L;
+		for (int bin = 0; bin < LATENCY_BINS; bin++) {
+			cumulative += totals[COLUMN_LATENCY + bin];
+			if (cumulative >= target) {
+				return 1L << bin;
+			}
+		}
+		return 1L << (LATENCY_BINS - 1);
+	}
+
+	private static int latencyBin(long latencyMillis) {
+		if (latencyMillis <= 0) {
+			return 0;
+		}
+		return Math.min(LATENCY_BINS - 1, 64 - Long.numberOfLeadingZeros(latencyMillis));
+	}
+
+	private static SlidingWindowCounter[] newWindows(int width) {
+		SlidingWindowCounter[] windows = new SlidingWindowCounter[WINDOWS.length];
+		for (int i = 0; i < WINDOWS.length; i++) {
+			windows[i] = new SlidingWindowCounter(WINDOWS[i].getSlotMillis() * SloWindow.SLOTS, TimeUnit.MILLISECONDS,
+					SloWindow.SLOTS, width);
+		}
+		return windows;
+	}
+
+	private static final class EndpointStats {
+		private final SlidingWindowCounter[] windows = newWindows(WIDTH);
+		private final ConcurrentMap<String, SlidingWindowCounter[]> errorCodes = new ConcurrentHashMap<>();
+	}
+}
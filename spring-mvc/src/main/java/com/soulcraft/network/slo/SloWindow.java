@@ -0,0 +1,40 @@
+package com.soulcraft.network.slo;
+
+/**
+ * <p>
+ * SLO 统计窗口，每个窗口固定 60 个时间片
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public enum SloWindow {
+	/**
+	 * 最近 1 分钟，时间片 1 秒
+	 */
+	ONE_MINUTE(1000L),
+	/**
+	 * 最近 5 分钟，时间片 5 秒
+	 */
+	FIVE_MINUTES(5000L),
+	/**
+	 * 最近 1 小时，时间片 1 分钟
+	 */
+	ONE_HOUR(60000L),
+	;
+
+	/**
+	 * 每个窗口的时间片数量
+	 */
+	static final int SLOTS = 60;
+
+	private final long slotMillis;
+
+	SloWindow(long slotMillis) {
+		this.slotMillis = slotMillis;
+	}
+
+	long getSlotMillis() {
+		return slotMillis;
+	}
+}
@@ -0,0 +1,171 @@
+package com.soulcraft.network.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>
+ * 滑动窗口计数器
+ * </p>
+ * <p>
+ * 窗口被分为固定数量的环形桶，每个桶记录一个时间片内的计数，过期的桶在下次写入时清零。
+ * 每个桶可以包含多列计数（如请求数、失败数及耗时分布），同一个桶的各列一起清零，内存大小固定。
+ * 全部操作无锁；桶切换的瞬间并发写入的少量计数可能丢失，统计结果是近似值。
+ * 时间基于 {@link System#nanoTime()}，不受系统时钟调整影响。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class SlidingWindowCounter {
+	private final long bucketMillis;
+	private final int buckets;
+	private final int columns;
+	private final AtomicLongArray counts;
+	private final AtomicLongArray epochs;
+
+	/**
+	 * @param window  窗口长度
+	 * @param unit    窗口长度单位
+	 * @param buckets 桶数量
+	 */
+	public SlidingWindowCounter(long window, TimeUnit unit, int buckets) {
+		this(window, unit, buckets, 1);
+	}
+
+	/**
+	 * @param window  窗口长度
+	 * @param unit    窗口长度单位
+	 * @param buckets 桶数量
+	 * @param columns 每个桶的计数列数
+	 */
+	public SlidingWindowCounter(long window, TimeUnit unit, int buckets, int columns) {
+		long windowMillis = unit.toMillis(window);
+		if (buckets <= 0 || windowMillis < buckets) {
+			throw new IllegalArgumentException("invalid window: " + windowMillis + "ms, buckets: " + buckets);
+		}
+		if (columns <= 0) {
+			throw new IllegalArgumentException("columns must be positive: " + columns);
+		}
+		this.bucketMillis = windowMillis / buckets;
+		this.buckets = buckets;
+		this.columns = columns;
+		this.counts = new AtomicLongArray(buckets * columns);
+		this.epochs = new AtomicLongArray(buckets);
+		for (int i = 0; i < buckets; i++) {
+			epochs.set(i, Long.MIN_VALUE);
+		}
+	}
+
+	/**
+	 * @return 当前时间，单位毫秒，只用于计算时间差
+	 */
+	public static long now() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+	}
+
+	/**
+	 * 第一列计数加一
+	 */
+	public void increment() {
+		add(now(), 1L);
+	}
+
+	/**
+	 * 增加第一列计数
+	 *
+	 * @param nowMillis 当前时间，参见 {@link #now()}
+	 * @param delta     增加的计数
+	 */
+	public void add(long nowMillis, long delta) {
+		add(bucket(nowMillis), 0, delta);
+	}
+
+	/**
+	 * 定位当前时间所在的桶，桶已过期时清零，同一时刻写入多列时只需定位一次
+	 *
+	 * @param nowMillis 当前时间，参见 {@link #now()}
+	 * @return 桶，用于 {@link #add(int, int, long)}
+	 */
+	public int bucket(long nowMillis) {
+		long epoch = Math.floorDiv(nowMillis, bucketMillis);
+		int index = (int) Math.floorMod(epoch, (long) buckets);
+		long seen = epochs.get(index);
+		int base = index * columns;
+		if (seen != epoch && epochs.compareAndSet(index, seen, epoch)) {
+			for (int i = 0; i < columns; i++) {
+				counts.set(base + i, 0L);
+			}
+		}
+		return base;
+	}
+
+	/**
+	 * 增加指定列的计数
+	 *
+	 * @param bucket 桶，参见 {@link #bucket(long)}
+	 * @param column 列
+	 * @param delta  增加的计数
+	 */
+	public void add(int bucket, int column, long delta) {
+		counts.addAndGet(bucket + column, delta);
+	}
+
+	/**
+	 * @return 窗口内第一列的计数
+	 */
+	public long sum() {
+		return sum(now());
+	}
+
+	/**
+	 * 获取窗口内第一列的计数
+	 *
+	 * @param nowMillis 当前时间，参见 {@link #now()}
+	 * @return 窗口内的计数
+	 */
+	public long sum(long nowMillis) {
+		long epoch = Math.floorDiv(nowMillis, bucketMillis);
+		long total = 0L;
+		for (int i = 0; i < buckets; i++) {
+			if (isLive(epochs.get(i), epoch)) {
+				total += counts.get(i * columns);
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * 获取窗口内每列的计数
+	 *
+	 * @param nowMillis 当前时间，参见 {@link #now()}
+	 * @return 每列的计数
+	 */
+	public long[] sums(long nowMillis) {
+		long epoch = Math.floorDiv(nowMillis, bucketMillis);
+		long[] totals = new long[columns];
+		for (int i = 0; i < buckets; i++) {
+			if (isLive(epochs.get(i), epoch)) {
+				int base = i * columns;
+				for (int column = 0; column < columns; column++) {
+					totals[column] += counts.get(base + column);
+				}
+			}
+		}
+		return totals;
+	}
+
+	/**
+	 * 桶是否已写入且仍在窗口内
+	 */
+	private boolean isLive(long bucketEpoch, long epoch) {
+		return bucketEpoch != Long.MIN_VALUE && bucketEpoch <= epoch && epoch - bucketEpoch < buckets;
+	}
+
+	/**
+	 * @return 窗口长度，单位毫秒
+	 */
+	public long getWindowMillis() {
+		return bucketMillis * buckets;
+	}
+}
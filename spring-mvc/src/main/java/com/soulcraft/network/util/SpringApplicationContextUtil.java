@@ -6,7 +6,7 @@ import org.springframework.context.ApplicationContextAware;
 import org.springframework.stereotype.Component;
 
 /**
- * Spring Application Context 工具类
+ * Spring Application Context 工具类，同时为 {@link MessageUtils} 设置基于 Spring 的消息查找
  *
  * @author scott
  * @since 2021年10月20日
@@ -25,6 +25,8 @@ public class SpringApplicationContextUtil implements ApplicationContextAware {
 	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
 		if (SpringApplicationContextUtil.applicationContext == null) {
 			SpringApplicationContextUtil.applicationContext = applicationContext;
+			// ApplicationContext 将消息查找委托给其中的 messageSource
+			MessageUtils.setMessageResolver(new SpringMessageResolver(applicationContext));
 		}
 	}
 
@@ -0,0 +1,29 @@
+package com.soulcraft.network.util;
+
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+
+/**
+ * <p>
+ * 基于 Spring {@link MessageSource} 的消息查找
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class SpringMessageResolver implements MessageResolver {
+	private final MessageSource messageSource;
+
+	/**
+	 * @param messageSource 消息源，可以是 ApplicationContext 本身，此时使用其中名为 messageSource 的 Bean
+	 */
+	public SpringMessageResolver(MessageSource messageSource) {
+		this.messageSource = messageSource;
+	}
+
+	@Override
+	public String getMessage(String code, Object[] args, Locale locale) {
+		return messageSource.getMessage(code, args, null, locale);
+	}
+}
@@ -0,0 +1,94 @@
+package com.soulcraft.network.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.soulcraft.network.resp.R;
+import com.soulcraft.network.resp.batch.BatchR;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.json.EnvelopeFields;
+import com.soulcraft.network.resp.json.EnvelopeModule;
+import com.soulcraft.network.resp.page.QP;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.io.IOException;
+
+/**
+ * <p>
+ * 返回报文的 CBOR 二进制编码，用于服务间调用
+ * </p>
+ * <p>
+ * 仅当请求的 Accept 明确包含 {@code application/cbor} 时才会被选中，需要添加在 JSON 转换器之后，
+ * 浏览器等 {@code Accept: *}{@code /*} 的请求仍然返回 JSON。
+ * 已注册的错误码以 {@link com.soulcraft.network.resp.ResponseEnumRegistry} 中的数值编号输出；
+ * 请求头 {@value #HEADER_ENVELOPE_MESSAGE} 为 {@value #OMIT} 时不输出返回消息。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class BinaryEnvelopeHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+	/**
+	 * 控制是否输出返回消息的请求头
+	 */
+	public static final String HEADER_ENVELOPE_MESSAGE = "X-Envelope-Message";
+	/**
+	 * 不输出返回消息
+	 */
+	public static final String OMIT = "omit";
+
+	private final ObjectWriter writer;
+	private final ObjectWriter codeOnlyWriter;
+
+	public BinaryEnvelopeHttpMessageConverter() {
+		this(new ObjectMapper(new CBORFactory()).registerModule(new EnvelopeModule()));
+	}
+
+	/**
+	 * @param objectMapper 基于 CBOR 或 Smile 的 ObjectMapper，需要注册 {@link EnvelopeModule}
+	 */
+	public BinaryEnvelopeHttpMessageConverter(ObjectMapper objectMapper) {
+		super(MediaType.APPLICATION_CBOR);
+		this.writer = objectMapper.writer().withAttribute(EnvelopeFields.ATTR_PACKED_CODE, Boolean.TRUE);
+		this.codeOnlyWriter = writer.withAttribute(EnvelopeFields.ATTR_OMIT_MESSAGE, Boolean.TRUE);
+	}
+
+	@Override
+	protected boolean supports(Class<?> clazz) {
+		return R.class.isAssignableFrom(clazz)
+				|| ErrorResponse.class.isAssignableFrom(clazz)
+				|| QP.class.isAssignableFrom(clazz)
+				|| BatchR.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public boolean canRead(Class<?> clazz, MediaType mediaType) {
+		return false;
+	}
+
+	@Override
+	protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws HttpMessageNotReadableException {
+		throw new HttpMessageNotReadableException("reading " + clazz.getName() + " is not supported", inputMessage);
+	}
+
+	@Override
+	protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+		ObjectWriter target = isMessageOmitted() ? codeOnlyWriter : writer;
+		target.writeValue(outputMessage.getBody(), value);
+	}
+
+	private static boolean isMessageOmitted() {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (!(attributes instanceof ServletRequestAttributes)) {
+			return false;
+		}
+		return OMIT.equalsIgnoreCase(((ServletRequestAttributes) attributes).getRequest().getHeader(HEADER_ENVELOPE_MESSAGE));
+	}
+}
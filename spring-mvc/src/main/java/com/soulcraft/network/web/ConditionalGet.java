@@ -0,0 +1,26 @@
+package com.soulcraft.network.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * 条件 GET：根据响应体生成弱 ETag，客户端携带的 If-None-Match 与之相同时返回 304 且不返回响应体
+ * </p>
+ * <p>
+ * 标注在 Controller 类或方法上，需要同时注册 {@link ConditionalGetFilter}，只对 GET 请求生效。
+ * 如果 Controller 能够提前得到数据的版本号，可以调用 {@link ConditionalGets#checkNotModified(Object)}，
+ * 客户端数据已是最新时直接返回，省去数据加载及序列化。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface ConditionalGet {
+}
@@ -0,0 +1,281 @@
+package com.soulcraft.network.web;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.WebUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 条件 GET 过滤器，参见 {@link ConditionalGet}
+ * </p>
+ * <p>
+ * 只有标注了 {@link ConditionalGet} 的 Controller 返回 200 时才会缓存响应体，是否缓存在第一次写出或刷新响应体时决定，
+ * 其他请求直接写出，也不分配缓存。响应体在写入缓存的同时计算 64 位 FNV-1a 哈希值，不需要再次遍历。
+ * 只处理 GET 请求：HEAD 请求的响应体由 HttpServlet 在内部丢弃，不会写入本过滤器，无法计算 ETag。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class ConditionalGetFilter extends OncePerRequestFilter {
+	private static final String METHOD_GET = "GET";
+	private static final int INITIAL_BUFFER_SIZE = 1024;
+
+	private final Map<Method, Boolean> conditionalGetMethods = new ConcurrentHashMap<>();
+
+	@Override
+	protected boolean shouldNotFilterAsyncDispatch() {
+		return false;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (!METHOD_GET.equals(request.getMethod())) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		HashingResponseWrapper wrapper = WebUtils.getNativeResponse(response, HashingResponseWrapper.class);
+		if (wrapper == null) {
+			wrapper = new HashingResponseWrapper(request, response);
+		}
+		filterChain.doFilter(request, wrapper);
+		if (!request.isAsyncStarted()) {
+			wrapper.complete();
+		}
+	}
+
+	private boolean isConditionalGet(HttpServletRequest request) {
+		Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		if (!(handler instanceof HandlerMethod)) {
+			return false;
+		}
+		HandlerMethod handlerMethod = (HandlerMethod) handler;
+		return conditionalGetMethods.computeIfAbsent(handlerMethod.getMethod(), m ->
+				AnnotatedElementUtils.hasAnnotation(m, ConditionalGet.class)
+						|| AnnotatedElementUtils.hasAnnotation(handlerMethod.getBeanType(), ConditionalGet.class));
+	}
+
+	/**
+	 * If-None-Match 是否包含指定的 ETag，按弱比较规则忽略 W/ 前缀
+	 */
+	private static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		String opaque = stripWeak(etag);
+		for (String candidate : ifNoneMatch.split(",")) {
+			candidate = candidate.trim();
+			if ("*".equals(candidate) || stripWeak(candidate).equals(opaque)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String stripWeak(String etag) {
+		return etag.startsWith("W/") ? etag.substring(2) : etag;
+	}
+
+	/**
+	 * 延迟决定是否缓存响应体的响应包装类
+	 */
+	private final class HashingResponseWrapper extends HttpServletResponseWrapper {
+		private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+		private static final long FNV_PRIME = 0x100000001B3L;
+
+		private final HttpServletRequest request;
+		private Boolean buffering;
+		private byte[] buffer;
+		private int size;
+		private long hash = FNV_OFFSET_BASIS;
+		private ServletOutputStream outputStream;
+		private PrintWriter writer;
+
+		private HashingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+			super(response);
+			this.request = request;
+		}
+
+		private boolean isBuffering() {
+			if (buffering == null) {
+				buffering = getStatus() == HttpServletResponse.SC_OK && isConditionalGet(request);
+			}
+			return buffering;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (!isBuffering()) {
+				return super.getOutputStream();
+			}
+			if (outputStream == null) {
+				outputStream = new HashingOutputStream();
+			}
+			return outputStream;
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			if (!isBuffering()) {
+				return super.getWriter();
+			}
+			if (writer == null) {
+				writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+			}
+			return writer;
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			// 在写出响应体之前刷新时先决定是否缓存，缓存时不能提交响应，否则之后无法设置 ETag 及 304
+			if (!isBuffering()) {
+				super.flushBuffer();
+			} else if (writer != null) {
+				writer.flush();
+			}
+		}
+
+		@Override
+		public void setContentLength(int len) {
+			if (buffering == null || !buffering) {
+				super.setContentLength(len);
+			}
+		}
+
+		@Override
+		public void setContentLengthLong(long len) {
+			if (buffering == null || !buffering) {
+				super.setContentLengthLong(len);
+			}
+		}
+
+		@Override
+		public void resetBuffer() {
+			super.resetBuffer();
+			size = 0;
+			hash = FNV_OFFSET_BASIS;
+		}
+
+		@Override
+		public void reset() {
+			super.reset();
+			size = 0;
+			hash = FNV_OFFSET_BASIS;
+			buffering = null;
+			outputStream = null;
+			writer = null;
+		}
+
+		/**
+		 * 第一次写入时才分配缓存
+		 */
+		private void ensureCapacity(int required) {
+			if (buffer == null) {
+				buffer = new byte[Math.max(INITIAL_BUFFER_SIZE, required)];
+			} else if (required > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, required));
+			}
+		}
+
+		private void append(int b) {
+			ensureCapacity(size + 1);
+			buffer[size++] = (byte) b;
+			hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+		}
+
+		/**
+		 * 请求处理完成后输出 ETag 及缓存的响应体，或返回 304
+		 */
+		private void complete() throws IOException {
+			if (buffering == null || !buffering) {
+				return;
+			}
+			if (writer != null) {
+				writer.flush();
+			}
+			buffering = Boolean.FALSE;
+			HttpServletResponse response = (HttpServletResponse) getResponse();
+			// 响应已被提交时不能再设置 ETag 及 304，直接写出缓存的响应体
+			if (response.isCommitted() || response.getStatus() != HttpServletResponse.SC_OK
+					|| response.containsHeader(HttpHeaders.ETAG)) {
+				writeBody(response);
+				return;
+			}
+			String etag = "W/\"" + Long.toHexString(hash) + "\"";
+			response.setHeader(HttpHeaders.ETAG, etag);
+			if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+				response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+				return;
+			}
+			writeBody(response);
+		}
+
+		private void writeBody(HttpServletResponse response) throws IOException {
+			response.setContentLength(size);
+			if (size > 0) {
+				response.getOutputStream().write(buffer, 0, size);
+			}
+			response.flushBuffer();
+		}
+
+		private final class HashingOutputStream extends ServletOutputStream {
+			private WriteListener writeListener;
+
+			@Override
+			public void write(int b) {
+				append(b);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				ensureCapacity(size + len);
+				for (int i = off; i < off + len; i++) {
+					append(b[i]);
+				}
+			}
+
+			@Override
+			public boolean isReady() {
+				return true;
+			}
+
+			/**
+			 * 写入的是内存中的缓存，总是可以写入，设置后立即通知
+			 */
+			@Override
+			public void setWriteListener(WriteListener writeListener) {
+				if (writeListener == null) {
+					throw new NullPointerException("writeListener");
+				}
+				if (this.writeListener != null) {
+					throw new IllegalStateException("WriteListener already set");
+				}
+				this.writeListener = writeListener;
+				try {
+					writeListener.onWritePossible();
+				} catch (IOException e) {
+					writeListener.onError(e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.soulcraft.network.web;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.ServletWebRequest;
+
+/**
+ * <p>
+ * 条件 GET 工具类
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public final class ConditionalGets {
+
+	private ConditionalGets() {
+	}
+
+	/**
+	 * <pre>
+	 *     使用 Controller 提供的数据版本号生成弱 ETag，并与请求的 If-None-Match 比较
+	 *     客户端数据已是最新时，响应状态已被设置为 304，Controller 应直接返回 null：
+	 *
+	 *     if (ConditionalGets.checkNotModified(order.getVersion())) {
+	 *         return null;
+	 *     }
+	 * </pre>
+	 *
+	 * @param version 数据版本号
+	 * @return 客户端数据是否已是最新
+	 */
+	public static boolean checkNotModified(Object version) {
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+		if (!(attributes instanceof ServletRequestAttributes) || version == null) {
+			return false;
+		}
+		ServletRequestAttributes servletAttributes = (ServletRequestAttributes) attributes;
+		ServletWebRequest webRequest = new ServletWebRequest(servletAttributes.getRequest(), servletAttributes.getResponse());
+		return webRequest.checkNotModified("W/\"v" + version + "\"");
+	}
+}
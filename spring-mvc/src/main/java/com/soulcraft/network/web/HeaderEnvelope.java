@@ -0,0 +1,36 @@
+package com.soulcraft.network.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * 无报文封装模式：响应体只包含原始数据，错误码及返回消息通过响应头返回
+ * </p>
+ * <p>
+ * 标注在 Controller 类或方法上。返回 {@link com.soulcraft.network.resp.R} 时只输出其中的 data，data 按 JSON 编码；
+ * byte[]、字符串、Resource、InputStream 等原始数据需要直接作为返回值，包装在 R 中时抛出异常。
+ * 发生异常时 {@link com.soulcraft.network.handler.UnifiedExceptionHandler} 返回的错误信息也只通过响应头返回。
+ * 返回消息使用 UTF-8 百分号编码。
+ * </p>
+ *
+ * @author Scott
+ * @see HeaderEnvelopeResponseAdvice
+ * @since 2026-10-19
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface HeaderEnvelope {
+	/**
+	 * 整个错误码信息的响应头
+	 */
+	String HEADER_CODE = "X-Response-Code";
+	/**
+	 * 返回消息的响应头
+	 */
+	String HEADER_MESSAGE = "X-Response-Message";
+}
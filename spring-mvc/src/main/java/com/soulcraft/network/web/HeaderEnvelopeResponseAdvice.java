@@ -0,0 +1,131 @@
+package com.soulcraft.network.web;
+
+import com.soulcraft.network.resp.BaseResponse;
+import com.soulcraft.network.resp.R;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import com.soulcraft.network.util.MessageUtils;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+import org.springframework.web.util.UriUtils;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 无报文封装模式的响应处理，参见 {@link HeaderEnvelope}
+ * </p>
+ * <p>
+ * 返回 {@link R} 时消息转换器已按 R 选定（JSON），此时只能输出可按 JSON 编码的数据；
+ * data 为 byte[]、字符串、{@link Resource} 或 {@link InputStream} 时 JSON 编码后不再是原始数据，直接抛出异常，
+ * 这类数据需要直接作为返回值，由对应的消息转换器输出。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@ControllerAdvice
+public class HeaderEnvelopeResponseAdvice implements ResponseBodyAdvice<Object> {
+	private final Map<Method, Boolean> headerEnvelopeMethods = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		if (isHeaderEnvelope(returnType.getMethod())) {
+			return true;
+		}
+		// 全局错误处理器返回的错误信息，需要在写出时根据原始的 Controller 方法判断
+		Class<?> bodyType = returnType.getParameterType();
+		if (HttpEntity.class.isAssignableFrom(bodyType)) {
+			bodyType = returnType.nested().getNestedParameterType();
+		}
+		return BaseResponse.class.isAssignableFrom(bodyType);
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+								  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+								  ServerHttpRequest request, ServerHttpResponse response) {
+		if (!isHeaderEnvelope(returnType.getMethod()) && !isHeaderEnvelope(request)) {
+			return body;
+		}
+		if (body instanceof BaseResponse) {
+			BaseResponse baseResponse = (BaseResponse) body;
+			Object data = body instanceof R ? ((R<?>) body).getData() : null;
+			if (isRawPayload(data)) {
+				throw new IllegalStateException("@HeaderEnvelope method " + returnType.getMethod()
+						+ " must return " + data.getClass().getName() + " directly instead of wrapping it in R");
+			}
+			writeHeaders(response, baseResponse.getCode(), baseResponse.getMessage());
+			return data;
+		}
+		HttpStatusEnum ok = HttpStatusEnum.OK;
+		writeHeaders(response, ok.getFullCode(), MessageUtils.getResponseMessage(ok));
+		return body;
+	}
+
+	/**
+	 * 需要由专门的消息转换器输出的原始数据，经 JSON 编码后不再是原始数据
+	 */
+	private static boolean isRawPayload(Object data) {
+		return data instanceof byte[] || data instanceof CharSequence || data instanceof Resource
+				|| data instanceof InputStream;
+	}
+
+	/**
+	 * 直接写入 Servlet 响应头，响应体为空时 {@link ServerHttpResponse#getHeaders()} 中的内容不会被写出
+	 */
+	private static void writeHeaders(ServerHttpResponse response, String code, String message) {
+		String encodedMessage = message == null ? null : UriUtils.encode(message, StandardCharsets.UTF_8);
+		if (response instanceof ServletServerHttpResponse) {
+			HttpServletResponse servletResponse = ((ServletServerHttpResponse) response).getServletResponse();
+			servletResponse.setHeader(HeaderEnvelope.HEADER_CODE, code);
+			if (encodedMessage != null) {
+				servletResponse.setHeader(HeaderEnvelope.HEADER_MESSAGE, encodedMessage);
+			}
+			return;
+		}
+		HttpHeaders headers = response.getHeaders();
+		headers.set(HeaderEnvelope.HEADER_CODE, code);
+		if (encodedMessage != null) {
+			headers.set(HeaderEnvelope.HEADER_MESSAGE, encodedMessage);
+		}
+	}
+
+	/**
+	 * 当前请求匹配的 Controller 方法是否为无报文封装模式
+	 */
+	private boolean isHeaderEnvelope(ServerHttpRequest request) {
+		if (!(request instanceof ServletServerHttpRequest)) {
+			return false;
+		}
+		Object handler = ((ServletServerHttpRequest) request).getServletRequest()
+				.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		return handler instanceof HandlerMethod && isHeaderEnvelope(((HandlerMethod) handler).getMethod());
+	}
+
+	private boolean isHeaderEnvelope(Method method) {
+		if (method == null) {
+			return false;
+		}
+		return headerEnvelopeMethods.computeIfAbsent(method, m ->
+				AnnotatedElementUtils.hasAnnotation(m, HeaderEnvelope.class)
+						|| AnnotatedElementUtils.hasAnnotation(m.getDeclaringClass(), HeaderEnvelope.class));
+	}
+}
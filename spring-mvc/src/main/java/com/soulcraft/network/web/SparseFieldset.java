@@ -0,0 +1,35 @@
+package com.soulcraft.network.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * 稀疏字段集：只序列化客户端请求的字段
+ * </p>
+ * <p>
+ * 标注在 Controller 类或方法上后，客户端可以通过请求参数指定需要的字段，如 ?fields=id,name，
+ * 返回的 {@link com.soulcraft.network.resp.R} 中的 data 及 {@link com.soulcraft.network.resp.page.QP} 中的 list
+ * 只输出这些顶层字段，不支持嵌套字段。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface SparseFieldset {
+	/**
+	 * 客户端未指定字段时的默认字段，为空时输出全部字段
+	 */
+	String[] value() default {};
+
+	/**
+	 * 指定字段的请求参数名
+	 */
+	String param() default "fields";
+}
@@ -0,0 +1,75 @@
+package com.soulcraft.network.web;
+
+import com.soulcraft.network.resp.R;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.json.Fieldset;
+import com.soulcraft.network.resp.json.ProjectedValue;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * 稀疏字段集的响应处理，参见 {@link SparseFieldset}
+ * </p>
+ * <p>
+ * 只是将 data 或整个返回值包装为 {@link ProjectedValue}，投影在序列化时完成，同一响应中的同类型元素共用一次编译的投影；
+ * 替换结果为新的返回对象，Controller 返回的对象可能被缓存或共用，不会被修改。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@ControllerAdvice
+public class SparseFieldsetResponseAdvice implements ResponseBodyAdvice<Object> {
+	private final Map<Method, Optional<SparseFieldset>> sparseFieldsets = new ConcurrentHashMap<>();
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return findSparseFieldset(returnType.getMethod()) != null;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+								  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+								  ServerHttpRequest request, ServerHttpResponse response) {
+		SparseFieldset sparseFieldset = findSparseFieldset(returnType.getMethod());
+		if (body == null || body instanceof ErrorResponse || sparseFieldset == null) {
+			return body;
+		}
+		String spec = request instanceof ServletServerHttpRequest
+				? ((ServletServerHttpRequest) request).getServletRequest().getParameter(sparseFieldset.param()) : null;
+		Fieldset fieldset = spec != null ? Fieldset.parse(spec) : Fieldset.of(sparseFieldset.value());
+		if (fieldset == null) {
+			return body;
+		}
+		if (body instanceof R) {
+			return ((R<?>) body).map(data -> ProjectedValue.of(data, fieldset));
+		}
+		return ProjectedValue.of(body, fieldset);
+	}
+
+	private SparseFieldset findSparseFieldset(Method method) {
+		if (method == null) {
+			return null;
+		}
+		return sparseFieldsets.computeIfAbsent(method, m -> {
+			SparseFieldset annotation = AnnotatedElementUtils.findMergedAnnotation(m, SparseFieldset.class);
+			if (annotation == null) {
+				annotation = AnnotatedElementUtils.findMergedAnnotation(m.getDeclaringClass(), SparseFieldset.class);
+			}
+			return Optional.ofNullable(annotation);
+		}).orElse(null);
+	}
+}
@@ -0,0 +1,111 @@
+package com.soulcraft.network.web.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * 根据请求耗时自适应调整上限的并发限制器（加性增、乘性减）
+ * </p>
+ * <p>
+ * 请求耗时超过阈值时，上限按比例下降；否则在并发数接近上限时上限加一。
+ * 同一次拥堵会使许多并发请求同时变慢，因此只有在上次下降之后才开始的慢请求才会再次触发下降，
+ * 即每个拥堵事件只下降一次，而不是每个慢请求各下降一次。
+ * 上限始终在 [minLimit, maxLimit] 范围内，全部操作无锁。
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class AimdConcurrencyLimiter implements ConcurrencyLimiter {
+	private final int minLimit;
+	private final int maxLimit;
+	private final long latencyThresholdNanos;
+	private final double backoffRatio;
+	private final AtomicInteger limit;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	/**
+	 * 上次下降上限的时间，System.nanoTime()
+	 */
+	private final AtomicLong lastBackoff;
+
+	/**
+	 * @param initialLimit     初始并发上限
+	 * @param minLimit         最小并发上限
+	 * @param maxLimit         最大并发上限
+	 * @param latencyThreshold 耗时阈值
+	 * @param unit             耗时阈值单位
+	 * @param backoffRatio     超过阈值时上限的下降比例，取值范围 (0, 1)
+	 */
+	public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThreshold, TimeUnit unit,
+								  double backoffRatio) {
+		if (minLimit <= 0 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+			throw new IllegalArgumentException("invalid limits: initial=" + initialLimit + ", min=" + minLimit + ", max=" + maxLimit);
+		}
+		if (backoffRatio <= 0 || backoffRatio >= 1) {
+			throw new IllegalArgumentException("backoffRatio must be in (0, 1): " + backoffRatio);
+		}
+		this.minLimit = minLimit;
+		this.maxLimit = maxLimit;
+		this.latencyThresholdNanos = unit.toNanos(latencyThreshold);
+		this.backoffRatio = backoffRatio;
+		this.limit = new AtomicInteger(initialLimit);
+		this.lastBackoff = new AtomicLong(System.nanoTime());
+	}
+
+	@Override
+	public boolean tryAcquire() {
+		for (; ; ) {
+			int current = inFlight.get();
+			if (current >= limit.get()) {
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public void release(long latencyNanos) {
+		int current = inFlight.getAndDecrement();
+		int currentLimit = limit.get();
+		if (latencyNanos > latencyThresholdNanos) {
+			backoff(currentLimit, latencyNanos);
+		} else if (current * 2 >= currentLimit && currentLimit < maxLimit) {
+			// 只有并发数接近上限时才增加上限，避免空闲时上限无限增长
+			limit.compareAndSet(currentLimit, currentLimit + 1);
+		}
+	}
+
+	@Override
+	public void cancel() {
+		inFlight.decrementAndGet();
+	}
+
+	/**
+	 * 请求在上次下降之前开始时属于同一次拥堵，不再下降；并发时只有一个请求能更新下降时间
+	 */
+	private void backoff(int currentLimit, long latencyNanos) {
+		if (currentLimit <= minLimit) {
+			return;
+		}
+		long now = System.nanoTime();
+		long last = lastBackoff.get();
+		if (now - latencyNanos - last < 0 || !lastBackoff.compareAndSet(last, now)) {
+			return;
+		}
+		limit.updateAndGet(l -> Math.max(minLimit, (int) (l * backoffRatio)));
+	}
+
+	@Override
+	public int getLimit() {
+		return limit.get();
+	}
+
+	@Override
+	public int getInFlight() {
+		return inFlight.get();
+	}
+}
@@ -0,0 +1,40 @@
+package com.soulcraft.network.web.limit;
+
+/**
+ * <p>
+ * 并发限制器
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public interface ConcurrencyLimiter {
+	/**
+	 * 尝试获取一个并发许可，不阻塞
+	 *
+	 * @return 是否获取成功，成功后必须调用 {@link #release(long)} 或 {@link #cancel()} 归还
+	 */
+	boolean tryAcquire();
+
+	/**
+	 * 归还并发许可
+	 *
+	 * @param latencyNanos 本次请求的处理耗时，单位纳秒
+	 */
+	void release(long latencyNanos);
+
+	/**
+	 * 归还未处理请求的并发许可，不作为耗时样本，不影响并发上限
+	 */
+	void cancel();
+
+	/**
+	 * @return 当前的并发上限
+	 */
+	int getLimit();
+
+	/**
+	 * @return 当前正在处理的请求数
+	 */
+	int getInFlight();
+}
@@ -0,0 +1,59 @@
+package com.soulcraft.network.web.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>
+ * 固定上限的并发限制器
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class FixedConcurrencyLimiter implements ConcurrencyLimiter {
+	private final int limit;
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	/**
+	 * @param limit 并发上限
+	 */
+	public FixedConcurrencyLimiter(int limit) {
+		if (limit <= 0) {
+			throw new IllegalArgumentException("limit must be positive: " + limit);
+		}
+		this.limit = limit;
+	}
+
+	@Override
+	public boolean tryAcquire() {
+		for (; ; ) {
+			int current = inFlight.get();
+			if (current >= limit) {
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	@Override
+	public void release(long latencyNanos) {
+		inFlight.decrementAndGet();
+	}
+
+	@Override
+	public void cancel() {
+		inFlight.decrementAndGet();
+	}
+
+	@Override
+	public int getLimit() {
+		return limit;
+	}
+
+	@Override
+	public int getInFlight() {
+		return inFlight.get();
+	}
+}
@@ -0,0 +1,207 @@
+package com.soulcraft.network.web.limit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.soulcraft.network.resp.IResponseEnum;
+import com.soulcraft.network.resp.error.ErrorResponse;
+import com.soulcraft.network.resp.error.HttpStatusEnum;
+import com.soulcraft.network.resp.json.EnvelopeModule;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * 限流拦截器，在 Controller 执行前按路由分组限制并发数，超出上限的请求立即拒绝，不再排队等待
+ * </p>
+ * <p>
+ * 路由分组由 {@link RouteGroup} 声明，未声明的 Controller 方法属于 {@value #DEFAULT_GROUP} 分组，
+ * 每个分组的并发限制器由构造参数中的工厂创建。分组限制器拒绝时返回 429，全局限制器拒绝时返回 503，
+ * 均带有 Retry-After 响应头；分组限制器拒绝时已获取的全局许可通过 {@link ConcurrencyLimiter#cancel()} 归还，不计入耗时样本。
+ * 拒绝响应在第一次使用时预先编码，之后直接写出字节，不再分配对象。
+ * </p>
+ * <pre>
+ *     registry.addInterceptor(new LoadSheddingInterceptor(group -&gt;
+ *             new AimdConcurrencyLimiter(100, 10, 500, 200, TimeUnit.MILLISECONDS, 0.9)));
+ * </pre>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+public class LoadSheddingInterceptor implements AsyncHandlerInterceptor {
+	/**
+	 * 未声明 {@link RouteGroup} 的 Controller 方法所属的分组
+	 */
+	public static final String DEFAULT_GROUP = "default";
+
+	private static final String ATTR_PERMIT = LoadSheddingInterceptor.class.getName() + ".permit";
+	private static final String CONTENT_TYPE = MediaType.APPLICATION_JSON_VALUE;
+
+	private final ObjectMapper objectMapper;
+	private final Function<String, ConcurrencyLimiter> limiterFactory;
+	private final Map<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+	private final Map<Method, String> routeGroups = new ConcurrentHashMap<>();
+	private volatile ConcurrencyLimiter globalLimiter;
+	private volatile Rejection tooManyRequests;
+	private volatile Rejection serviceUnavailable;
+
+	/**
+	 * @param limiterFactory 根据分组名称创建并发限制器
+	 */
+	public LoadSheddingInterceptor(Function<String, ConcurrencyLimiter> limiterFactory) {
+		this(new ObjectMapper().registerModule(new EnvelopeModule()), limiterFactory);
+	}
+
+	/**
+	 * @param objectMapper   编码拒绝响应的 ObjectMapper
+	 * @param limiterFactory 根据分组名称创建并发限制器
+	 */
+	public LoadSheddingInterceptor(ObjectMapper objectMapper, Function<String, ConcurrencyLimiter> limiterFactory) {
+		this.objectMapper = objectMapper;
+		this.limiterFactory = limiterFactory;
+	}
+
+	/**
+	 * 设置全局并发限制器，在分组限制器之前检查
+	 *
+	 * @param globalLimiter 全局并发限制器，为 null 时不限制
+	 */
+	public void setGlobalLimiter(ConcurrencyLimiter globalLimiter) {
+		this.globalLimiter = globalLimiter;
+	}
+
+	/**
+	 * @param group 分组名称
+	 * @return 分组的并发限制器，尚未有请求时返回 null
+	 */
+	public ConcurrencyLimiter getLimiter(String group) {
+		return limiters.get(group);
+	}
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		// 异步请求再次分发时已持有许可
+		if (request.getAttribute(ATTR_PERMIT) != null) {
+			return true;
+		}
+		ConcurrencyLimiter global = globalLimiter;
+		if (global != null && !global.tryAcquire()) {
+			reject(response, serviceUnavailable());
+			return false;
+		}
+		ConcurrencyLimiter limiter = limiters.computeIfAbsent(routeGroup(handler), limiterFactory);
+		if (!limiter.tryAcquire()) {
+			if (global != null) {
+				global.cancel();
+			}
+			reject(response, tooManyRequests());
+			return false;
+		}
+		request.setAttribute(ATTR_PERMIT, new Permit(global, limiter, System.nanoTime()));
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		Object permit = request.getAttribute(ATTR_PERMIT);
+		if (permit instanceof Permit) {
+			request.removeAttribute(ATTR_PERMIT);
+			((Permit) permit).release();
+		}
+	}
+
+	private String routeGroup(Object handler) {
+		if (!(handler instanceof HandlerMethod)) {
+			return DEFAULT_GROUP;
+		}
+		HandlerMethod handlerMethod = (HandlerMethod) handler;
+		return routeGroups.computeIfAbsent(handlerMethod.getMethod(), m -> {
+			RouteGroup routeGroup = AnnotatedElementUtils.findMergedAnnotation(m, RouteGroup.class);
+			if (routeGroup == null) {
+				routeGroup = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), RouteGroup.class);
+			}
+			return routeGroup == null ? DEFAULT_GROUP : routeGroup.value();
+		});
+	}
+
+	private static void reject(HttpServletResponse response, Rejection rejection) throws IOException {
+		response.setStatus(rejection.status);
+		response.setContentType(CONTENT_TYPE);
+		response.setContentLength(rejection.body.length);
+		response.setHeader(HttpHeaders.RETRY_AFTER, rejection.retryAfter);
+		response.getOutputStream().write(rejection.body);
+	}
+
+	private Rejection tooManyRequests() {
+		Rejection rejection = tooManyRequests;
+		if (rejection == null) {
+			rejection = tooManyRequests = encode(HttpStatusEnum.TOO_MANY_REQUESTS);
+		}
+		return rejection;
+	}
+
+	private Rejection serviceUnavailable() {
+		Rejection rejection = serviceUnavailable;
+		if (rejection == null) {
+			rejection = serviceUnavailable = encode(HttpStatusEnum.SERVICE_UNAVAILABLE);
+		}
+		return rejection;
+	}
+
+	private Rejection encode(IResponseEnum responseEnum) {
+		try {
+			return new Rejection(responseEnum.getHttpStatus(), objectMapper.writeValueAsBytes(new ErrorResponse(responseEnum)),
+					Integer.toString(Math.max(responseEnum.getRetryAfter(), 0)));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("failed to encode error response " + responseEnum.getFullCode(), e);
+		}
+	}
+
+	/**
+	 * 预先编码的拒绝响应
+	 */
+	private static final class Rejection {
+		private final int status;
+		private final byte[] body;
+		private final String retryAfter;
+
+		private Rejection(int status, byte[] body, String retryAfter) {
+			this.status = status;
+			this.body = body;
+			this.retryAfter = retryAfter;
+		}
+	}
+
+	/**
+	 * 请求持有的并发许可
+	 */
+	private static final class Permit {
+		private final ConcurrencyLimiter global;
+		private final ConcurrencyLimiter limiter;
+		private final long startNanos;
+
+		private Permit(ConcurrencyLimiter global, ConcurrencyLimiter limiter, long startNanos) {
+			this.global = global;
+			this.limiter = limiter;
+			this.startNanos = startNanos;
+		}
+
+		private void release() {
+			long latency = System.nanoTime() - startNanos;
+			limiter.release(latency);
+			if (global != null) {
+				global.release(latency);
+			}
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.soulcraft.network.web.limit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * 路由分组，同一分组的 Controller 方法共用一个并发限制器，参见 {@link LoadSheddingInterceptor}
+ * </p>
+ *
+ * @author Scott
+ * @since 2026-10-19
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface RouteGroup {
+	/**
+	 * 分组名称
+	 */
+	String value();
+}